@@ -0,0 +1,63 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.SudokuBoard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the pencil-mark candidates of {@link SudokuBoard}: reading the candidates of every cell, as the
+ * interface does on every frame, and placing a number followed by reading the candidates again.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CandidateBenchmark {
+
+    @Param({"42", "1234", "987654321"})
+    private long seed;
+
+    private SudokuBoard board;
+    private final int[] candidates = new int[36];
+    private int emptyRow;
+    private int emptyCol;
+    private int digit;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = new SudokuBoard(seed);
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                if (board.getCell(row, col) == 0) {
+                    emptyRow = row;
+                    emptyCol = col;
+                }
+            }
+        }
+        digit = Integer.numberOfTrailingZeros(board.getLegalDigits(emptyRow, emptyCol));
+    }
+
+    @Benchmark
+    public int[] copyCandidates() {
+        board.copyCandidatesTo(candidates);
+        return candidates;
+    }
+
+    /**
+     * Places a number, reads every candidate and takes the number back, so the board stays the same.
+     */
+    @Benchmark
+    public int[] placeAndCopyCandidates() {
+        board.saveStateForUndo();
+        board.setCell(emptyRow, emptyCol, digit);
+        board.copyCandidatesTo(candidates);
+        board.undo();
+        return candidates;
+    }
+}
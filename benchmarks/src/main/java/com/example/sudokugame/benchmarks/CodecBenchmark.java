@@ -0,0 +1,92 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.BoardCodec;
+import com.example.sudokugame.model.BoardGenerator;
+import com.example.sudokugame.model.Difficulty;
+import com.example.sudokugame.model.SudokuBoard;
+import com.example.sudokugame.model.SudokuGrid;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the binary board codec: encoding a puzzle, a solution and a whole board into a reused
+ * buffer, and decoding them again. Run with {@code -prof gc} to confirm that encoding does not allocate.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({"42", "1234", "987654321"})
+    private long seed;
+
+    private SudokuBoard board;
+    private SudokuGrid puzzle;
+    private SudokuGrid solution;
+    private ByteBuffer buffer;
+    private ByteBuffer encodedPuzzle;
+    private ByteBuffer encodedSolution;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = SudokuBoard.fromSeed(seed, Difficulty.MEDIUM);
+        puzzle = new SudokuGrid();
+        for (int row = 0; row < SudokuGrid.SIZE; row++) {
+            for (int col = 0; col < SudokuGrid.SIZE; col++) {
+                puzzle.set(row, col, board.getCell(row, col));
+            }
+        }
+        solution = new SudokuGrid();
+        new BoardGenerator(new SplittableRandom(seed)).generateCompleteSolution(solution);
+        buffer = ByteBuffer.allocate(BoardCodec.BOARD_BYTES);
+
+        encodedPuzzle = ByteBuffer.allocate(BoardCodec.PUZZLE_BYTES);
+        BoardCodec.encodePuzzle(puzzle, encodedPuzzle);
+        encodedSolution = ByteBuffer.allocate(BoardCodec.SOLUTION_BYTES);
+        BoardCodec.encodeSolution(solution, encodedSolution);
+    }
+
+    @Benchmark
+    public ByteBuffer encodePuzzle() {
+        buffer.clear();
+        BoardCodec.encodePuzzle(puzzle, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public SudokuGrid decodePuzzle() {
+        encodedPuzzle.rewind();
+        BoardCodec.decodePuzzle(encodedPuzzle, puzzle);
+        return puzzle;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeSolution() {
+        buffer.clear();
+        BoardCodec.encodeSolution(solution, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public SudokuGrid decodeSolution() {
+        encodedSolution.rewind();
+        BoardCodec.decodeSolution(encodedSolution, solution);
+        return solution;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBoard() {
+        buffer.clear();
+        BoardCodec.encodeBoard(board, buffer);
+        return buffer;
+    }
+}
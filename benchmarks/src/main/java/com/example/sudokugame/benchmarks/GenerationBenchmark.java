@@ -0,0 +1,80 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.BoardGenerator;
+import com.example.sudokugame.model.SudokuBoard;
+import com.example.sudokugame.model.SudokuGrid;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures board generation: the backtracking that builds a complete solution, the loop that clears
+ * each 2x3 region down to its givens, and the full {@link SudokuBoard} constructor.
+ * The random source and the board seed are reset at the start of every iteration, so each run replays
+ * the same boards.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationBenchmark {
+
+    @Param({"42", "1234", "987654321"})
+    private long seed;
+
+    private Random random;
+    private BoardGenerator generator;
+    private SudokuGrid solution;
+    private SudokuGrid grid;
+    private long boardSeed;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        random = new Random(seed);
+        generator = new BoardGenerator(random);
+        solution = new SudokuGrid();
+        generator.generateCompleteSolution(solution);
+        grid = new SudokuGrid();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        random.setSeed(seed);
+        boardSeed = seed;
+    }
+
+    @Benchmark
+    public SudokuGrid generateCompleteSolution() {
+        grid.clear();
+        generator.generateCompleteSolution(grid);
+        return grid;
+    }
+
+    @Benchmark
+    public SudokuGrid generateCompleteSolutionByBacktracking() {
+        grid.clear();
+        generator.generateCompleteSolutionByBacktracking(grid);
+        return grid;
+    }
+
+    /**
+     * Includes copying the solution back into the board, since clearing is destructive.
+     */
+    @Benchmark
+    public SudokuGrid clearRegions() {
+        grid.copyFrom(solution);
+        generator.clearRegions(grid, 2);
+        return grid;
+    }
+
+    @Benchmark
+    public SudokuBoard newBoard() {
+        return new SudokuBoard(boardSeed++);
+    }
+}
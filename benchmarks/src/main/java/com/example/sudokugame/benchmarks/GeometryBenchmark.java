@@ -0,0 +1,61 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.BoardGenerator;
+import com.example.sudokugame.model.Geometry;
+import com.example.sudokugame.model.MaskSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link MaskSolver} on every standard {@link Geometry}, given by its block shape:
+ * filling an empty grid with a random solution, and counting up to two solutions of a seeded minimal puzzle
+ * as done by uniqueness checks.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+
+    @Param({"42", "1234", "987654321"})
+    private long seed;
+
+    @Param({"2x2", "2x3", "2x4", "3x3", "3x4", "4x4"})
+    private String blocks;
+
+    private MaskSolver solver;
+    private SplittableRandom random;
+    private byte[] puzzle;
+    private byte[] grid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] shape = blocks.split("x");
+        Geometry geometry = Geometry.of(Integer.parseInt(shape[0]), Integer.parseInt(shape[1]));
+        random = new SplittableRandom(seed);
+        puzzle = new byte[geometry.getCells()];
+        grid = new byte[geometry.getCells()];
+        new BoardGenerator(new SplittableRandom(seed)).generatePuzzle(geometry, grid, puzzle);
+        solver = new MaskSolver(geometry);
+    }
+
+    @Benchmark
+    public byte[] fillRandom() {
+        Arrays.fill(grid, (byte) 0);
+        solver.fillRandom(grid, random);
+        return grid;
+    }
+
+    @Benchmark
+    public int countUpToTwo() {
+        return solver.countSolutions(puzzle, 2);
+    }
+}
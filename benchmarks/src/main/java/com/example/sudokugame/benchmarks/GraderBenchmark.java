@@ -0,0 +1,51 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.Difficulty;
+import com.example.sudokugame.model.DifficultyGrader;
+import com.example.sudokugame.model.Puzzle;
+import com.example.sudokugame.model.SudokuGrid;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DifficultyGrader#grade(SudokuGrid)} on {@value #PUZZLES} seeded puzzles of every
+ * difficulty, graded in turn so the result is an average over the bands.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraderBenchmark {
+
+    private static final int PUZZLES = 64;
+
+    @Param({"42", "1234", "987654321"})
+    private long seed;
+
+    private SudokuGrid[] puzzles;
+    private DifficultyGrader grader;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Difficulty[] difficulties = Difficulty.values();
+        puzzles = new SudokuGrid[PUZZLES];
+        for (int i = 0; i < PUZZLES; i++) {
+            puzzles[i] = new SudokuGrid();
+            Puzzle.generate(seed + i, difficulties[i % difficulties.length]).copyGivensTo(puzzles[i]);
+        }
+        grader = new DifficultyGrader();
+    }
+
+    @Benchmark
+    public DifficultyGrader.Grade grade() {
+        next = (next + 1) % PUZZLES;
+        return grader.grade(puzzles[next]);
+    }
+}
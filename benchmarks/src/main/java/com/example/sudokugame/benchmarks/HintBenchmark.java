@@ -0,0 +1,63 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.Difficulty;
+import com.example.sudokugame.model.SolvingStep;
+import com.example.sudokugame.model.SudokuBoard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SudokuBoard#getHint()}, {@link SudokuBoard#getHintForCell(int, int)} and
+ * {@link SudokuBoard#getLogicalStep()} on a seeded puzzle with a single solution, so that the logical
+ * hints agree with the solution.
+ * The hint methods only log at debug level, through suppliers, so with logging at its default level the
+ * results include no formatting at all.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HintBenchmark {
+
+    @Param({"42", "1234", "987654321"})
+    private long seed;
+
+    private SudokuBoard board;
+    private int emptyRow;
+    private int emptyCol;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = SudokuBoard.fromSeed(seed, Difficulty.HARD);
+        // use the last empty cell, the worst case for a row-major search
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                if (board.getCell(row, col) == 0) {
+                    emptyRow = row;
+                    emptyCol = col;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public SudokuBoard.Hint getHint() {
+        return board.getHint();
+    }
+
+    @Benchmark
+    public SudokuBoard.Hint getHintForCell() {
+        return board.getHintForCell(emptyRow, emptyCol);
+    }
+
+    @Benchmark
+    public SolvingStep getLogicalStep() {
+        return board.getLogicalStep();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.Difficulty;
+import com.example.sudokugame.model.Puzzle;
+import com.example.sudokugame.model.PuzzleBank;
+import com.example.sudokugame.model.PuzzleFactory;
+import com.example.sudokugame.model.SudokuBoard;
+import com.example.sudokugame.model.SudokuGrid;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares starting a new game from a memory-mapped puzzle bank with generating the puzzle from its seed.
+ * The bank is written to a temporary file before the trial and deleted after it.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PuzzleBankBenchmark {
+
+    private static final int PUZZLES = 4096;
+
+    private Path file;
+    private PuzzleBank bank;
+    private SplittableRandom random;
+    private SudokuGrid givens;
+    private SudokuGrid solution;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("puzzle-bank", ".bin");
+        try (PuzzleBank.Writer writer = PuzzleBank.create(file)) {
+            for (Puzzle puzzle : new PuzzleFactory().generate(PUZZLES, Difficulty.MEDIUM, 42)) {
+                writer.write(puzzle);
+            }
+        }
+        bank = PuzzleBank.open(file);
+        random = new SplittableRandom(42);
+        givens = new SudokuGrid();
+        solution = new SudokuGrid();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        bank.close();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Loads a random record into reused grids, which does not allocate.
+     */
+    @Benchmark
+    public SudokuGrid loadFromBank() {
+        long index = random.nextInt(PUZZLES);
+        bank.copyGivensTo(index, givens);
+        bank.copySolutionTo(index, solution);
+        return givens;
+    }
+
+    @Benchmark
+    public SudokuBoard newBoardFromBank() {
+        return new SudokuBoard(bank, random.nextInt(PUZZLES));
+    }
+
+    @Benchmark
+    public SudokuBoard newBoardFromSeed() {
+        return SudokuBoard.fromSeed(random.nextLong(), Difficulty.MEDIUM);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.Difficulty;
+import com.example.sudokugame.model.GameSession;
+import com.example.sudokugame.model.GameSessionManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a {@link GameSessionManager} hosting {@value #SESSIONS} games shared by four threads: each
+ * operation looks up a random game and, under its lock, places a legal number in an empty cell and takes it
+ * back. The manager stats, with the estimated memory per session, are logged after the trial.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class SessionManagerBenchmark {
+
+    private static final System.Logger LOGGER = System.getLogger(SessionManagerBenchmark.class.getName());
+    private static final int SESSIONS = 1024;
+
+    @Param({"42", "1234", "987654321"})
+    private long seed;
+
+    private GameSessionManager manager;
+    private long[] ids;
+
+    /**
+     * The random choices of one benchmark thread: the stream split off the seed at the index of the thread,
+     * so that every thread plays different games and a trial is repeatable.
+     */
+    @State(Scope.Thread)
+    public static class Player {
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp(SessionManagerBenchmark benchmark, ThreadParams thread) {
+            SplittableRandom streams = new SplittableRandom(benchmark.seed);
+            random = streams.split();
+            for (int i = 0; i < thread.getThreadIndex(); i++) {
+                random = streams.split();
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manager = new GameSessionManager();
+        ids = new long[SESSIONS];
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int i = 0; i < SESSIONS; i++) {
+            ids[i] = manager.create(seeds.nextLong(), Difficulty.EASY);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LOGGER.log(System.Logger.Level.INFO, () -> "Sessions after the trial: " + manager.getStats());
+    }
+
+    @Benchmark
+    public boolean placeAndUndo(Player player) {
+        long id = ids[player.random.nextInt(SESSIONS)];
+        int cell = player.random.nextInt(36);
+        return manager.withSession(id, game -> {
+            int candidates = game.getCandidates(cell / 6, cell % 6);
+            if (candidates == 0) {
+                return false;
+            }
+            game.place(cell / 6, cell % 6, Integer.numberOfTrailingZeros(candidates));
+            game.undo();
+            return true;
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.BoardGenerator;
+import com.example.sudokugame.model.DlxSolver;
+import com.example.sudokugame.model.SudokuGrid;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dancing links solver on a seeded puzzle with two givens per region:
+ * finding one solution, and counting up to two solutions as done by uniqueness checks.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmark {
+
+    @Param({"42", "1234", "987654321"})
+    private long seed;
+
+    private DlxSolver solver;
+    private SudokuGrid puzzle;
+    private SudokuGrid solution;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BoardGenerator generator = new BoardGenerator(new Random(seed));
+        puzzle = new SudokuGrid();
+        generator.generateCompleteSolution(puzzle);
+        generator.clearRegions(puzzle, 2);
+        solver = new DlxSolver();
+        solution = new SudokuGrid();
+    }
+
+    @Benchmark
+    public boolean solve() {
+        return solver.solve(puzzle, solution);
+    }
+
+    @Benchmark
+    public int countUpToTwo() {
+        return solver.countSolutions(puzzle, 2);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.Difficulty;
+import com.example.sudokugame.model.MoveLog;
+import com.example.sudokugame.model.SudokuBoard;
+import com.example.sudokugame.model.SudokuGrid;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the move timeline on a recorded game of {@value #MOVES} random changes: rebuilding the board
+ * at a random position of the move log, and replaying the whole game from its seed.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimelineBenchmark {
+
+    private static final int MOVES = 1000;
+
+    @Param({"42", "1234", "987654321"})
+    private long seed;
+
+    private MoveLog log;
+    private int[] moves;
+    private SudokuGrid grid;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SudokuBoard board = SudokuBoard.fromSeed(seed, Difficulty.EASY);
+        log = board.recordMoves();
+        random = new SplittableRandom(seed);
+        while (log.size() < MOVES) {
+            int row = random.nextInt(6);
+            int col = random.nextInt(6);
+            if (!board.isGiven(row, col)) {
+                board.setCell(row, col, random.nextInt(7));
+            }
+        }
+        moves = log.toArray();
+        grid = new SudokuGrid();
+    }
+
+    @Benchmark
+    public SudokuGrid seek() {
+        log.stateAt(random.nextInt(MOVES + 1), grid);
+        return grid;
+    }
+
+    @Benchmark
+    public SudokuBoard replayFromSeed() {
+        return SudokuBoard.replay(seed, Difficulty.EASY, moves);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.SudokuBoard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the undo history of {@link SudokuBoard}: saving a state, changing a cell and undoing it,
+ * and undoing and redoing a recorded change. Each invocation is a full round trip, so the history size
+ * stays constant.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UndoBenchmark {
+
+    @Param({"42", "1234", "987654321"})
+    private long seed;
+
+    private SudokuBoard board;
+    private int emptyRow;
+    private int emptyCol;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = new SudokuBoard(seed);
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                if (board.getCell(row, col) == 0) {
+                    emptyRow = row;
+                    emptyCol = col;
+                }
+            }
+        }
+        board.saveStateForUndo();
+        board.setCell(emptyRow, emptyCol, 2);
+    }
+
+    @Benchmark
+    public SudokuBoard saveEditUndo() {
+        board.saveStateForUndo();
+        board.setCell(emptyRow, emptyCol, 1);
+        board.undo();
+        return board;
+    }
+
+    @Benchmark
+    public SudokuBoard undoRedo() {
+        board.undo();
+        board.redo();
+        return board;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.sudokugame.benchmarks;
+
+import com.example.sudokugame.model.Geometry;
+import com.example.sudokugame.model.SudokuBoard;
+import com.example.sudokugame.model.SudokuGrid;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SudokuBoard#isValid(int, int, int)} and {@link SudokuBoard#isCorrect(int, int, int)}.
+ * Each invocation checks every number from 1 to 6 in every cell of a seeded board.
+ * {@link #isValidLegacy(Blackhole)} replays the logging implementation that {@code isValid} had before it
+ * became quiet, with its output discarded, as the baseline for the before/after comparison.
+ * {@link #unitWalk(Blackhole)} and {@link #peerTable(Blackhole)} compare the cell-by-cell check of the
+ * game controller before and after it read the peers from the {@link Geometry} tables instead of walking
+ * the row, column and block with divisions.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final int SIZE = 6;
+    private static final int CHECKS = SIZE * SIZE * SIZE;
+    private static final Geometry GEOMETRY = SudokuGrid.GEOMETRY;
+
+    @Param({"42", "1234", "987654321"})
+    private long seed;
+
+    private SudokuBoard board;
+    private List<List<Integer>> legacyBoard;
+    private PrintStream legacyOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = new SudokuBoard(seed);
+        legacyBoard = new ArrayList<>();
+        for (List<Integer> row : board.getBoard()) {
+            legacyBoard.add(new ArrayList<>(row));
+        }
+        legacyOut = new PrintStream(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHECKS)
+    public void isValid(Blackhole blackhole) {
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                for (int candidate = 1; candidate <= SIZE; candidate++) {
+                    blackhole.consume(board.isValid(row, col, candidate));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHECKS)
+    public void isValidLegacy(Blackhole blackhole) {
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                for (int candidate = 1; candidate <= SIZE; candidate++) {
+                    blackhole.consume(legacyIsValid(row, col, candidate));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHECKS)
+    public void isCorrect(Blackhole blackhole) {
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                for (int candidate = 1; candidate <= SIZE; candidate++) {
+                    blackhole.consume(board.isCorrect(row, col, candidate));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHECKS)
+    public void unitWalk(Blackhole blackhole) {
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                for (int candidate = 1; candidate <= SIZE; candidate++) {
+                    blackhole.consume(unitWalkIsValid(row, col, candidate));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHECKS)
+    public void peerTable(Blackhole blackhole) {
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                for (int candidate = 1; candidate <= SIZE; candidate++) {
+                    blackhole.consume(peerTableIsValid(row, col, candidate));
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy of {@code GameController.isValid} as it was before it used the peer tables.
+     */
+    private boolean unitWalkIsValid(int row, int col, int candidate) {
+        for (int j = 0; j < SIZE; j++) {
+            if (j != col && board.getCell(row, j) == candidate) {
+                return false;
+            }
+        }
+        for (int i = 0; i < SIZE; i++) {
+            if (i != row && board.getCell(i, col) == candidate) {
+                return false;
+            }
+        }
+        int startRow = (row / 2) * 2;
+        int startCol = (col / 3) * 3;
+        for (int i = startRow; i < startRow + 2; i++) {
+            for (int j = startCol; j < startCol + 3; j++) {
+                if (i != row && j != col && board.getCell(i, j) == candidate) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same check as {@code GameController.isValid}, over the deduplicated peers of the cell.
+     */
+    private boolean peerTableIsValid(int row, int col, int candidate) {
+        int cell = row * SIZE + col;
+        for (int i = 0, peers = GEOMETRY.getPeerCount(); i < peers; i++) {
+            int peer = GEOMETRY.peer(cell, i);
+            if (board.getCell(peer) == candidate) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copy of {@code SudokuBoard.isValid} as it was before validation became quiet.
+     */
+    private boolean legacyIsValid(int row, int col, int candidate) {
+        legacyOut.println("Checking validity of " + candidate + " at position (" + row + ", " + col + ")");
+
+        legacyOut.print("Values in row " + row + ": ");
+        for (int j = 0; j < SIZE; j++) {
+            legacyOut.print(legacyBoard.get(row).get(j) + " ");
+            if (legacyBoard.get(row).get(j) == candidate) {
+                legacyOut.println("\nFound " + candidate + " in row at column " + j);
+                return false;
+            }
+        }
+        legacyOut.println();
+
+        legacyOut.print("Values in column " + col + ": ");
+        for (int i = 0; i < SIZE; i++) {
+            legacyOut.print(legacyBoard.get(i).get(col) + " ");
+            if (legacyBoard.get(i).get(col) == candidate) {
+                legacyOut.println("\nFound " + candidate + " in column at row " + i);
+                return false;
+            }
+        }
+        legacyOut.println();
+
+        int startRow = (row / 2) * 2;
+        int startCol = (col / 3) * 3;
+
+        legacyOut.println("Checking block starting at (" + startRow + ", " + startCol + ")");
+        legacyOut.print("Values in block: ");
+        for (int i = startRow; i < startRow + 2; i++) {
+            for (int j = startCol; j < startCol + 3; j++) {
+                legacyOut.print(legacyBoard.get(i).get(j) + " ");
+                if (legacyBoard.get(i).get(j) == candidate) {
+                    legacyOut.println("\nFound " + candidate + " in block at position (" + i + ", " + j + ")");
+                    return false;
+                }
+            }
+        }
+        legacyOut.println("\nCandidate " + candidate + " is valid at position (" + row + ", " + col + ")");
+        return true;
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.sudokugame.model;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Compact binary encoding of grids and boards, to store and send large numbers of puzzles cheaply.
+ * <ul>
+ *     <li>A puzzle takes {@value #PUZZLE_BYTES} bytes: 3 bits per cell in row-major order, 0 for an empty cell.</li>
+ *     <li>A solution takes {@value #SOLUTION_BYTES} bytes: every row is a permutation of 1 to 6, stored as its
+ *     rank among the 720 permutations in 10 bits.</li>
+ *     <li>An in-progress state takes {@value #STATE_BYTES} bytes: the cells as in a puzzle followed by a
+ *     36-bit mask of the initial numbers.</li>
+ *     <li>A whole {@link SudokuBoard} takes {@value #BOARD_BYTES} bytes: its state, its solution, its seed and
+ *     the hints left.</li>
+ * </ul>
+ * Multi-byte values are big-endian. The {@code encode} methods write at the current position of a
+ * caller-supplied buffer and advance it without allocating, so the same buffer can be reused for
+ * millions of records. The string forms use URL-safe base64 without padding.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class BoardCodec {
+
+    /** Size of an encoded puzzle, in bytes. */
+    public static final int PUZZLE_BYTES = 14;
+    /** Size of an encoded solution, in bytes. */
+    public static final int SOLUTION_BYTES = 8;
+    /** Size of an encoded in-progress state, in bytes. */
+    public static final int STATE_BYTES = PUZZLE_BYTES + 5;
+    /** Size of an encoded board, in bytes. */
+    public static final int BOARD_BYTES = STATE_BYTES + SOLUTION_BYTES + 8 + 1;
+
+    private static final int SIZE = SudokuGrid.SIZE;
+    private static final int CELLS = SudokuGrid.CELLS;
+    private static final int CELL_BITS = 3;
+    private static final int RANK_BITS = 10;
+    private static final int PERMUTATIONS = 720;
+    // a puzzle is written as two halves of 18 cells, 54 bits each, padded to 7 bytes
+    private static final int HALF = CELLS / 2;
+    private static final int HALF_BYTES = PUZZLE_BYTES / 2;
+    private static final int GIVENS_BYTES = STATE_BYTES - PUZZLE_BYTES;
+
+    private BoardCodec() {
+    }
+
+    /**
+     * Writes the cells of a grid, 3 bits per cell.
+     * @param grid the grid to encode; its cells may be empty
+     * @param out the buffer to write {@value #PUZZLE_BYTES} bytes to
+     */
+    public static void encodePuzzle(SudokuGrid grid, ByteBuffer out) {
+        for (int half = 0; half < CELLS; half += HALF) {
+            long bits = 0;
+            for (int i = half; i < half + HALF; i++) {
+                bits = (bits << CELL_BITS) | grid.get(i);
+            }
+            putBytes(out, bits, HALF_BYTES);
+        }
+    }
+
+    /**
+     * Reads cells written by {@link #encodePuzzle(SudokuGrid, ByteBuffer)}.
+     * @param in the buffer to read {@value #PUZZLE_BYTES} bytes from
+     * @param grid the grid to overwrite
+     * @throws IllegalArgumentException if a cell holds a value greater than 6
+     */
+    public static void decodePuzzle(ByteBuffer in, SudokuGrid grid) {
+        decodePuzzle(in, in.position(), grid);
+        in.position(in.position() + PUZZLE_BYTES);
+    }
+
+    /**
+     * Reads cells written by {@link #encodePuzzle(SudokuGrid, ByteBuffer)} at an absolute index, leaving
+     * the position of the buffer unchanged so that several threads can read the same buffer.
+     * @param in the buffer to read {@value #PUZZLE_BYTES} bytes from
+     * @param index the index of the first byte
+     * @param grid the grid to overwrite
+     * @throws IllegalArgumentException if a cell holds a value greater than 6
+     */
+    public static void decodePuzzle(ByteBuffer in, int index, SudokuGrid grid) {
+        grid.clear();
+        for (int half = 0; half < CELLS; half += HALF, index += HALF_BYTES) {
+            long bits = getBytes(in, index, HALF_BYTES);
+            for (int i = half + HALF - 1; i >= half; i--) {
+                int value = (int) bits & ((1 << CELL_BITS) - 1);
+                bits >>>= CELL_BITS;
+                if (value > SIZE) {
+                    throw new IllegalArgumentException("Invalid cell value " + value);
+                }
+                if (value != 0) {
+                    grid.set(i / SIZE, i % SIZE, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs a complete solution into a {@code long}, 10 bits per row.
+     * @param grid a grid whose rows each hold the numbers 1 to 6
+     * @return the packed solution, using the lowest 60 bits
+     * @throws IllegalArgumentException if a row is not a permutation of 1 to 6
+     */
+    public static long packSolution(SudokuGrid grid) {
+        long code = 0;
+        for (int row = 0; row < SIZE; row++) {
+            code = (code << RANK_BITS) | rankRow(grid, row);
+        }
+        return code;
+    }
+
+    /**
+     * Unpacks a solution packed by {@link #packSolution(SudokuGrid)}.
+     * @param code the packed solution
+     * @param grid the grid to overwrite
+     * @throws IllegalArgumentException if a row rank is out of range
+     */
+    public static void unpackSolution(long code, SudokuGrid grid) {
+        grid.clear();
+        for (int row = SIZE - 1; row >= 0; row--) {
+            unrankRow((int) code & ((1 << RANK_BITS) - 1), grid, row);
+            code >>>= RANK_BITS;
+        }
+    }
+
+    /**
+     * Writes a complete solution as row permutation ranks.
+     * @param grid a grid whose rows each hold the numbers 1 to 6
+     * @param out the buffer to write {@value #SOLUTION_BYTES} bytes to
+     * @throws IllegalArgumentException if a row is not a permutation of 1 to 6
+     */
+    public static void encodeSolution(SudokuGrid grid, ByteBuffer out) {
+        out.putLong(packSolution(grid));
+    }
+
+    /**
+     * Reads a solution written by {@link #encodeSolution(SudokuGrid, ByteBuffer)}.
+     * @param in the buffer to read {@value #SOLUTION_BYTES} bytes from
+     * @param grid the grid to overwrite
+     * @throws IllegalArgumentException if a row rank is out of range
+     */
+    public static void decodeSolution(ByteBuffer in, SudokuGrid grid) {
+        unpackSolution(in.getLong(), grid);
+    }
+
+    /**
+     * Reads a solution written by {@link #encodeSolution(SudokuGrid, ByteBuffer)} at an absolute index,
+     * leaving the position of the buffer unchanged.
+     * @param in the buffer to read {@value #SOLUTION_BYTES} bytes from
+     * @param index the index of the first byte
+     * @param grid the grid to overwrite
+     * @throws IllegalArgumentException if a row rank is out of range
+     */
+    public static void decodeSolution(ByteBuffer in, int index, SudokuGrid grid) {
+        unpackSolution(in.getLong(index), grid);
+    }
+
+    /**
+     * Writes the cells of a game in progress and which of them are initial numbers.
+     * @param grid the current cells
+     * @param givens a mask with bit {@code row * 6 + col} set for every initial number
+     * @param out the buffer to write {@value #STATE_BYTES} bytes to
+     */
+    public static void encodeState(SudokuGrid grid, long givens, ByteBuffer out) {
+        encodePuzzle(grid, out);
+        putBytes(out, givens, GIVENS_BYTES);
+    }
+
+    /**
+     * Reads a state written by {@link #encodeState(SudokuGrid, long, ByteBuffer)}.
+     * @param in the buffer to read {@value #STATE_BYTES} bytes from
+     * @param grid the grid that receives the cells
+     * @return the mask of the initial numbers
+     * @throws IllegalArgumentException if a cell holds a value greater than 6
+     */
+    public static long decodeState(ByteBuffer in, SudokuGrid grid) {
+        decodePuzzle(in, grid);
+        long givens = getBytes(in, in.position(), GIVENS_BYTES);
+        in.position(in.position() + GIVENS_BYTES);
+        return givens & ((1L << CELLS) - 1);
+    }
+
+    /**
+     * Writes a whole board: its state, its solution, its seed and the hints left.
+     * @param board the board to encode
+     * @param out the buffer to write {@value #BOARD_BYTES} bytes to
+     */
+    public static void encodeBoard(SudokuBoard board, ByteBuffer out) {
+        encodeState(board.cells(), board.givens(), out);
+        encodeSolution(board.solution(), out);
+        out.putLong(board.getSeed());
+        out.put((byte) board.getAttemptsLeft());
+    }
+
+    /**
+     * Reads a board written by {@link #encodeBoard(SudokuBoard, ByteBuffer)}.
+     * @param in the buffer to read {@value #BOARD_BYTES} bytes from
+     * @return the decoded board
+     * @throws IllegalArgumentException if the data is not a valid board
+     */
+    public static SudokuBoard decodeBoard(ByteBuffer in) {
+        SudokuGrid cells = new SudokuGrid();
+        SudokuGrid solution = new SudokuGrid();
+        long givens = decodeState(in, cells);
+        decodeSolution(in, solution);
+        long seed = in.getLong();
+        int attemptsLeft = in.get();
+        return new SudokuBoard(cells, solution, givens, seed, attemptsLeft);
+    }
+
+    /**
+     * Encodes the cells of a grid as a short string.
+     * @param grid the grid to encode
+     * @return a 19-character URL-safe base64 string
+     */
+    public static String puzzleToString(SudokuGrid grid) {
+        ByteBuffer buffer = ByteBuffer.allocate(PUZZLE_BYTES);
+        encodePuzzle(grid, buffer);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a string written by {@link #puzzleToString(SudokuGrid)}.
+     * @param text the encoded puzzle
+     * @param grid the grid to overwrite
+     * @throws IllegalArgumentException if the string is not an encoded puzzle
+     */
+    public static void puzzleFromString(String text, SudokuGrid grid) {
+        decodePuzzle(decodeString(text, PUZZLE_BYTES), grid);
+    }
+
+    /**
+     * Encodes a whole board as a short string, for example to save a game or share it.
+     * @param board the board to encode
+     * @return a 48-character URL-safe base64 string
+     */
+    public static String boardToString(SudokuBoard board) {
+        ByteBuffer buffer = ByteBuffer.allocate(BOARD_BYTES);
+        encodeBoard(board, buffer);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a string written by {@link #boardToString(SudokuBoard)}.
+     * @param text the encoded board
+     * @return the decoded board
+     * @throws IllegalArgumentException if the string is not an encoded board
+     */
+    public static SudokuBoard boardFromString(String text) {
+        return decodeBoard(decodeString(text, BOARD_BYTES));
+    }
+
+    private static ByteBuffer decodeString(String text, int length) {
+        byte[] bytes = Base64.getUrlDecoder().decode(text);
+        if (bytes.length != length) {
+            throw new IllegalArgumentException("Expected " + length + " bytes but got " + bytes.length);
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Returns the rank of a row among the permutations of 1 to 6, in lexicographic order.
+     * @throws IllegalArgumentException if the row is not a permutation
+     */
+    static int rankRow(SudokuGrid grid, int row) {
+        int rank = 0;
+        int used = 0;
+        for (int col = 0; col < SIZE; col++) {
+            int digit = grid.get(row, col);
+            if (digit == 0 || (used & (1 << digit)) != 0) {
+                throw new IllegalArgumentException("Row " + row + " is not a permutation of 1 to " + SIZE);
+            }
+            // digits still unused and smaller than this one
+            int smaller = Integer.bitCount(~used & ((1 << digit) - 2));
+            rank = rank * (SIZE - col) + smaller;
+            used |= 1 << digit;
+        }
+        return rank;
+    }
+
+    /**
+     * Writes the permutation of 1 to 6 with the given rank into a row of a grid.
+     * @throws IllegalArgumentException if the rank is not below 720
+     */
+    static void unrankRow(int rank, SudokuGrid grid, int row) {
+        if (rank < 0 || rank >= PERMUTATIONS) {
+            throw new IllegalArgumentException("Invalid row rank " + rank);
+        }
+        int remaining = SudokuGrid.ALL_DIGITS;
+        for (int col = 0, factorial = PERMUTATIONS / SIZE; col < SIZE; col++) {
+            int digit = BoardGenerator.nthSetBit(remaining, rank / factorial);
+            rank %= factorial;
+            remaining &= ~(1 << digit);
+            grid.set(row, col, digit);
+            if (col < SIZE - 1) factorial /= SIZE - 1 - col;
+        }
+    }
+
+    private static void putBytes(ByteBuffer out, long bits, int bytes) {
+        for (int shift = 8 * (bytes - 1); shift >= 0; shift -= 8) {
+            out.put((byte) (bits >>> shift));
+        }
+    }
+
+    private static long getBytes(ByteBuffer in, int index, int bytes) {
+        long bits = 0;
+        for (int i = 0; i < bytes; i++) {
+            bits = (bits << 8) | (in.get(index + i) & 0xFF);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,361 @@
+package com.example.sudokugame.model;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates complete sudoku solutions and playable boards on a {@link SudokuGrid}.
+ * Every random choice is taken from the {@link RandomGenerator} given to the constructor, so a generator
+ * built from a seeded {@code Random} or {@code SplittableRandom} always produces the same sequence of boards.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public class BoardGenerator {
+
+    /**
+     * The ways a playable board can be derived from a complete solution.
+     */
+    public enum Mode {
+        /** Keeps two random numbers in every 2x3 region; the puzzle may have several solutions. */
+        TWO_PER_REGION,
+        /** Removes clues while the puzzle keeps a single solution, until none can be removed. */
+        UNIQUE_MINIMAL
+    }
+
+    private static final int SIZE = SudokuGrid.SIZE;
+    private static final int BLOCK_ROWS = SudokuGrid.BLOCK_ROWS;
+    private static final int BLOCK_COLS = SudokuGrid.BLOCK_COLS;
+    private static final int CELLS_PER_REGION = BLOCK_ROWS * BLOCK_COLS;
+    /** Number of solutions tried before a puzzle outside the requested band is accepted. */
+    private static final int MAX_ATTEMPTS = 100;
+    /** Search budget of each uniqueness check when generating grids of any geometry. */
+    private static final long MAX_UNIQUENESS_NODES = 20_000;
+
+    private final RandomGenerator random;
+    private final byte[] order = new byte[SudokuGrid.CELLS];
+    private DlxSolver solver;
+    private DifficultyGrader grader;
+    private MaskSolver maskSolver;
+    // work of generateCompleteSolutionByBacktracking since the counters were last collected
+    private long nodes;
+    private long backtracks;
+    private int maxDepth;
+    private long candidateTests;
+
+    /**
+     * Creates a generator that takes its random choices from the given source.
+     * @param random the source of randomness
+     */
+    public BoardGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Creates a generator that takes its random choices from the given source and checks uniqueness
+     * with an existing solver, so that many short-lived generators can share one solver.
+     * @param random the source of randomness
+     * @param solver the solver used to count solutions
+     */
+    public BoardGenerator(RandomGenerator random, DlxSolver solver) {
+        this.random = random;
+        this.solver = solver;
+    }
+
+    /**
+     * Fills every empty cell of a grid so that it becomes a complete and valid solution.
+     * An empty grid receives a uniformly random solution taken from the {@link SolutionCatalogue};
+     * a partially filled grid is completed by {@link #generateCompleteSolutionByBacktracking(SudokuGrid)}.
+     * @param solution the grid to fill, usually empty
+     * @return {@code true} if a complete valid solution was found; {@code false} otherwise
+     */
+    public boolean generateCompleteSolution(SudokuGrid solution) {
+        for (int i = 0; i < SudokuGrid.CELLS; i++) {
+            if (solution.get(i) != 0) {
+                return generateCompleteSolution(solution, 0);
+            }
+        }
+        SolutionCatalogue.getInstance().fill(solution, random);
+        return true;
+    }
+
+    /**
+     * Fills every empty cell of a grid using backtracking; the numbers still allowed in a cell are read
+     * from the row, column and block masks of the grid and tried in random order.
+     * @param solution the grid to fill
+     * @return {@code true} if a complete valid solution was found; {@code false} otherwise
+     */
+    public boolean generateCompleteSolutionByBacktracking(SudokuGrid solution) {
+        return generateCompleteSolution(solution, 0);
+    }
+
+    private boolean generateCompleteSolution(SudokuGrid solution, int index) {
+        if (index == SudokuGrid.CELLS) {
+            return true;  // Board is complete
+        }
+
+        int row = index / SIZE;
+        int col = index % SIZE;
+
+        // If the cell is already filled, move to the next one
+        if (solution.get(index) != 0) {
+            return generateCompleteSolution(solution, index + 1);
+        }
+
+        // Try the numbers allowed in this cell in random order
+        int candidates = SudokuGrid.ALL_DIGITS & ~solution.usedMask(row, col);
+        candidateTests += Integer.bitCount(candidates);
+        if (index >= maxDepth) {
+            maxDepth = index + 1;
+        }
+        while (candidates != 0) {
+            int num = nthSetBit(candidates, random.nextInt(Integer.bitCount(candidates)));
+            candidates &= ~(1 << num);
+
+            solution.set(row, col, num);
+            nodes++;
+
+            if (generateCompleteSolution(solution, index + 1)) {
+                return true;
+            }
+
+            // Backtrack if it leads to a dead end
+            solution.set(row, col, 0);
+            backtracks++;
+        }
+
+        return false;
+    }
+
+    /**
+     * Clears the cells of a board leaving only a fixed amount of random numbers in each 2x3 region.
+     * @param board the board to clear, usually a copy of a complete solution
+     * @param numbersPerRegion how many numbers to keep in each region
+     */
+    public void clearRegions(SudokuGrid board, int numbersPerRegion) {
+        // Iterate over each 2x3 region
+        for (int regionRow = 0; regionRow < SIZE; regionRow += BLOCK_ROWS) {
+            for (int regionCol = 0; regionCol < SIZE; regionCol += BLOCK_COLS) {
+                // bitmask of the cell positions (0 to 5) of this region that will be kept
+                int kept = 0;
+                int free = (1 << CELLS_PER_REGION) - 1;
+                for (int i = 0; i < numbersPerRegion; i++) {
+                    int position = nthSetBit(free, random.nextInt(CELLS_PER_REGION - i));
+                    kept |= 1 << position;
+                    free &= ~(1 << position);
+                }
+
+                // set all cells to zero except for the kept ones
+                for (int position = 0; position < CELLS_PER_REGION; position++) {
+                    if ((kept & (1 << position)) == 0) {
+                        board.set(regionRow + position / BLOCK_COLS, regionCol + position % BLOCK_COLS, 0);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes clues from a puzzle one by one, in random order, keeping a removal only if the
+     * puzzle still has exactly one solution. Since removing clues can only add solutions, a single
+     * pass leaves a minimal puzzle: taking away any of the remaining clues makes it ambiguous.
+     * @param puzzle the puzzle to reduce, usually a copy of a complete solution
+     */
+    public void removeCluesKeepingUnique(SudokuGrid puzzle) {
+        if (solver == null) {
+            solver = new DlxSolver();
+        }
+        for (int i = 0; i < SudokuGrid.CELLS; i++) {
+            order[i] = (byte) i;
+        }
+        for (int i = SudokuGrid.CELLS - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        for (int i = 0; i < SudokuGrid.CELLS; i++) {
+            int row = order[i] / SIZE;
+            int col = order[i] % SIZE;
+            int value = puzzle.get(row, col);
+            if (value == 0) {
+                continue;
+            }
+            puzzle.set(row, col, 0);
+            if (solver.countSolutions(puzzle, 2) != 1) {
+                // the clue is needed to keep the solution unique
+                puzzle.set(row, col, value);
+            }
+        }
+    }
+
+    /**
+     * Puts back random cells of the solution until the puzzle has at least the given number of clues.
+     * Adding clues never adds solutions, so a puzzle with a single solution keeps it.
+     * @param puzzle the puzzle to fill in
+     * @param solution the complete solution of the puzzle
+     * @param clues the number of clues the puzzle should have
+     */
+    public void addClues(SudokuGrid puzzle, SudokuGrid solution, int clues) {
+        int empty = 0;
+        long emptyCells = 0;
+        for (int i = 0; i < SudokuGrid.CELLS; i++) {
+            if (puzzle.get(i) == 0) {
+                emptyCells |= 1L << i;
+                empty++;
+            }
+        }
+        for (int missing = clues - (SudokuGrid.CELLS - empty); missing > 0 && empty > 0; missing--, empty--) {
+            // pick a random empty cell
+            long remaining = emptyCells;
+            for (int skip = random.nextInt(empty); skip > 0; skip--) {
+                remaining &= remaining - 1;
+            }
+            int index = Long.numberOfTrailingZeros(remaining);
+            emptyCells &= ~(1L << index);
+            puzzle.set(index / SIZE, index % SIZE, solution.get(index));
+        }
+    }
+
+    /**
+     * Fills a grid with a complete solution and derives a puzzle of the given difficulty from it.
+     * The puzzle always has a single solution. Each attempt starts from a minimal puzzle with at least
+     * {@link Difficulty#getMinimumClues()} clues and grades it with a {@link DifficultyGrader}: while it is
+     * harder than the requested band, random cells of the solution are put back; if it ends up easier,
+     * a new solution is tried. After {@value #MAX_ATTEMPTS} attempts the last puzzle is kept as it is.
+     * @param solution the grid that receives the solution
+     * @param puzzle the grid that receives the puzzle
+     * @param difficulty the difficulty of the puzzle
+     */
+    public void generatePuzzle(SudokuGrid solution, SudokuGrid puzzle, Difficulty difficulty) {
+        if (grader == null) {
+            grader = new DifficultyGrader();
+        }
+        for (int attempt = 1; ; attempt++) {
+            solution.clear();
+            generateCompleteSolution(solution);
+            puzzle.copyFrom(solution);
+            removeCluesKeepingUnique(puzzle);
+            int clues = Math.max(difficulty.getMinimumClues(), countClues(puzzle));
+            addClues(puzzle, solution, clues);
+            Difficulty graded = grader.grade(puzzle).getDifficulty();
+            while (graded.compareTo(difficulty) > 0) {
+                addClues(puzzle, solution, ++clues);
+                graded = grader.grade(puzzle).getDifficulty();
+            }
+            if (graded == difficulty || attempt == MAX_ATTEMPTS) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Fills an array with a random complete solution of the given geometry and derives from it a minimal
+     * puzzle with a single solution, the same way {@link #removeCluesKeepingUnique(SudokuGrid)} does for
+     * the 6x6 game. A clue is only removed if the {@link MaskSolver} proves the puzzle stays unique within
+     * {@value #MAX_UNIQUENESS_NODES} search nodes, so the largest grids may keep a few extra clues.
+     * The arrays hold the cells in row-major order.
+     * @param geometry the shape of the grid
+     * @param solution the array of {@link Geometry#getCells()} cells that receives the solution
+     * @param puzzle the array of {@link Geometry#getCells()} cells that receives the puzzle
+     */
+    public void generatePuzzle(Geometry geometry, byte[] solution, byte[] puzzle) {
+        if (maskSolver == null || maskSolver.getGeometry() != geometry) {
+            maskSolver = new MaskSolver(geometry);
+        }
+        int cells = geometry.getCells();
+        Arrays.fill(solution, 0, cells, (byte) 0);
+        maskSolver.fillRandom(solution, random);
+        System.arraycopy(solution, 0, puzzle, 0, cells);
+
+        int[] cellOrder = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            cellOrder[i] = i;
+        }
+        for (int i = cells - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = cellOrder[i];
+            cellOrder[i] = cellOrder[j];
+            cellOrder[j] = swap;
+        }
+        for (int cell : cellOrder) {
+            byte value = puzzle[cell];
+            puzzle[cell] = 0;
+            if (maskSolver.countSolutions(puzzle, 2, MAX_UNIQUENESS_NODES) != 1) {
+                // the clue is needed to keep the solution unique, or proving it is not costs too much
+                puzzle[cell] = value;
+            }
+        }
+    }
+
+    private static int countClues(SudokuGrid puzzle) {
+        int clues = 0;
+        for (int i = 0; i < SudokuGrid.CELLS; i++) {
+            if (puzzle.get(i) != 0) {
+                clues++;
+            }
+        }
+        return clues;
+    }
+
+    /**
+     * Returns how many times this generator and its solvers, the exact cover one and the one for other
+     * geometries, have gone back on a choice since they were created or their counters were last collected;
+     * this is the backtrack count that {@link #collectStats(GenerationStats)} adds.
+     * A solver shared with other generators also counts theirs, so callers measure the difference.
+     * @return the number of backtracks so far
+     */
+    long getBacktracks() {
+        return backtracks + (solver == null ? 0 : solver.getBacktracks())
+                + (maskSolver == null ? 0 : maskSolver.getBacktracks());
+    }
+
+    /**
+     * Adds the work done by this generator and its solvers to the statistics of a board, and starts
+     * counting again from zero.
+     * @param stats the statistics to add to
+     */
+    void collectStats(GenerationStats stats) {
+        stats.add(nodes, backtracks, maxDepth, candidateTests);
+        nodes = 0;
+        backtracks = 0;
+        maxDepth = 0;
+        candidateTests = 0;
+        if (solver != null) {
+            solver.collectStats(stats);
+        }
+        if (maskSolver != null) {
+            maskSolver.collectStats(stats);
+        }
+    }
+
+    /**
+     * Turns a copy of a complete solution into a playable board.
+     * @param board the board to clear, holding a complete solution
+     * @param mode how to choose the cells to clear
+     */
+    public void clearCells(SudokuGrid board, Mode mode) {
+        switch (mode) {
+            case UNIQUE_MINIMAL:
+                removeCluesKeepingUnique(board);
+                break;
+            default:
+                clearRegions(board, 2);
+                break;
+        }
+    }
+
+    /**
+     * Returns the position of the n-th set bit of a mask, counting from the lowest bit.
+     * @param mask the mask to inspect
+     * @param n the number of set bits to skip
+     * @return the bit position of the selected set bit
+     */
+    static int nthSetBit(int mask, int n) {
+        while (n-- > 0) {
+            mask &= mask - 1;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.sudokugame.model;
+
+/**
+ * Receives a notification when a {@link SudokuBoard} becomes solved, so that user interfaces and servers
+ * do not need to check the board after every move.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@FunctionalInterface
+public interface CompletionListener {
+
+    /**
+     * Called right after the change that makes every cell of the board hold the number of its solution.
+     * @param board the solved board
+     */
+    void onCompleted(SudokuBoard board);
+}
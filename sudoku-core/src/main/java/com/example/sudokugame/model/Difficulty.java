@@ -0,0 +1,64 @@
+package com.example.sudokugame.model;
+
+/**
+ * Difficulty levels of a generated puzzle.
+ * A level is a band of the {@link Technique}s needed to solve the puzzle, as measured by the
+ * {@link DifficultyGrader}: easy puzzles are solved with naked singles alone, medium puzzles also need
+ * hidden singles, and hard puzzles need pairs, intersections or more. Every level starts from a minimal
+ * puzzle with a single solution; easy puzzles also get random cells of the solution put back until they
+ * have at least {@link #getMinimumClues()} numbers. Medium and hard puzzles have no such floor: their clues
+ * are only put back while they are harder than their band.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public enum Difficulty {
+    EASY(16, Technique.NAKED_SINGLE),
+    MEDIUM(0, Technique.HIDDEN_SINGLE),
+    HARD(0, null);
+
+    /** Level of the games started without choosing one, such as the games of the application. */
+    public static final Difficulty DEFAULT = MEDIUM;
+
+    private final int minimumClues;
+    private final Technique hardestTechnique;
+
+    Difficulty(int minimumClues, Technique hardestTechnique) {
+        this.minimumClues = minimumClues;
+        this.hardestTechnique = hardestTechnique;
+    }
+
+    /**
+     * Returns the smallest number of clues a puzzle of this difficulty is given.
+     * @return the number of clues; 0 means the minimal puzzle is used as is
+     */
+    public int getMinimumClues() {
+        return minimumClues;
+    }
+
+    /**
+     * Returns the hardest technique a puzzle of this difficulty may need.
+     * @return the technique, or {@code null} if there is no limit
+     */
+    public Technique getHardestTechnique() {
+        return hardestTechnique;
+    }
+
+    /**
+     * Returns the level of a graded puzzle.
+     * @param grade the grade of the puzzle
+     * @return the easiest level whose band includes the techniques the puzzle needs
+     */
+    public static Difficulty of(DifficultyGrader.Grade grade) {
+        if (grade.isSolved()) {
+            for (Difficulty difficulty : values()) {
+                Technique limit = difficulty.hardestTechnique;
+                if (limit == null || grade.getHardestTechnique() == null
+                        || grade.getHardestTechnique().compareTo(limit) <= 0) {
+                    return difficulty;
+                }
+            }
+        }
+        return HARD;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.sudokugame.model;
+
+/**
+ * Rates puzzles by solving them the way a person would, with the {@link HintEngine}.
+ * A puzzle is graded by the hardest {@link Technique} it needs and by its score, the sum of the
+ * {@linkplain Technique#getCost() costs} of every step; a puzzle that the known techniques cannot finish
+ * gets {@value #UNSOLVED_PENALTY} extra points. The grade maps to a level with {@link Difficulty#of(Grade)}.
+ * <p>
+ * The grader reuses its scratch grids and skips the explanations of the steps, so a single grader can
+ * sort a whole puzzle bank. A grader is not thread-safe; use one instance per thread.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class DifficultyGrader {
+
+    /** Points added to the score of a puzzle that cannot be solved with the known techniques. */
+    public static final int UNSOLVED_PENALTY = 100;
+
+    private final HintEngine engine = new HintEngine(false);
+    private final SudokuGrid grid = new SudokuGrid();
+    private final SudokuGrid scratch = new SudokuGrid();
+    private final int[] candidates = new int[SudokuGrid.CELLS];
+
+    /**
+     * Grades a puzzle.
+     * @param puzzle the puzzle to grade; it is not modified
+     * @return the grade of the puzzle
+     */
+    public Grade grade(SudokuGrid puzzle) {
+        grid.copyFrom(puzzle);
+        HintEngine.initCandidates(grid, candidates);
+        Technique hardest = null;
+        int steps = 0;
+        int score = 0;
+        SolvingStep step;
+        while ((step = engine.findStep(grid, candidates)) != null) {
+            Technique technique = step.getTechnique();
+            if (hardest == null || technique.compareTo(hardest) > 0) {
+                hardest = technique;
+            }
+            steps++;
+            score += technique.getCost();
+            HintEngine.apply(step, grid, candidates);
+        }
+        boolean solved = grid.isComplete();
+        return new Grade(hardest, steps, solved ? score : score + UNSOLVED_PENALTY, solved);
+    }
+
+    /**
+     * Grades the initial numbers of a generated puzzle.
+     * @param puzzle the puzzle to grade
+     * @return the grade of the puzzle
+     */
+    public Grade grade(Puzzle puzzle) {
+        puzzle.copyGivensTo(scratch);
+        return grade(scratch);
+    }
+
+    /**
+     * The result of grading a puzzle.
+     */
+    public static final class Grade {
+        private final Technique hardestTechnique;
+        private final int steps;
+        private final int score;
+        private final boolean solved;
+
+        Grade(Technique hardestTechnique, int steps, int score, boolean solved) {
+            this.hardestTechnique = hardestTechnique;
+            this.steps = steps;
+            this.score = score;
+            this.solved = solved;
+        }
+
+        /**
+         * Returns the hardest technique used.
+         * @return the technique, or {@code null} if the puzzle needed no steps
+         */
+        public Technique getHardestTechnique() {
+            return hardestTechnique;
+        }
+
+        /**
+         * Returns how many placements and eliminations were applied.
+         * @return the number of steps
+         */
+        public int getSteps() {
+            return steps;
+        }
+
+        /**
+         * Returns the score of the puzzle; higher is harder.
+         * @return the sum of the costs of the steps, plus {@link #UNSOLVED_PENALTY} if the puzzle was not solved
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Checks if the known techniques were enough to solve the puzzle.
+         * @return {@code true} if the puzzle was solved by logic alone
+         */
+        public boolean isSolved() {
+            return solved;
+        }
+
+        /**
+         * Returns the level of the puzzle.
+         * @return the difficulty band of the grade
+         */
+        public Difficulty getDifficulty() {
+            return Difficulty.of(this);
+        }
+
+        @Override
+        public String toString() {
+            return getDifficulty() + " (" + hardestTechnique + ", " + steps + " steps, score " + score
+                    + (solved ? ")" : ", unsolved)");
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.example.sudokugame.model;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Exact cover solver for 6x6 sudoku based on Knuth's Algorithm X with dancing links.
+ * Every placement of a digit in a cell is a row of the exact cover matrix, and every constraint
+ * (a cell holds one digit, a row, a column and a block hold each digit once) is a column,
+ * giving 216 rows and 144 columns. The matrix is built once per solver and stored in flat
+ * {@code int} arrays; solving only relinks nodes, and the solution is extracted into a buffer of the solver,
+ * so {@link #solve(SudokuGrid, SudokuGrid)} and {@link #countSolutions(SudokuGrid, int)} do not allocate.
+ * Only {@link #solutions(SudokuGrid)} creates arrays, one per solution it hands out.
+ * <p>
+ * The search is iterative and resumable, which lets the same code find one solution, count
+ * solutions up to a limit, or enumerate them lazily as a stream.
+ * A solver is not thread-safe; use one instance per thread.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class DlxSolver {
+
+    private static final int SIZE = SudokuGrid.SIZE;
+    private static final int CELLS = SudokuGrid.CELLS;
+    private static final int ROOT = 0;
+    // cell, row-digit, column-digit and block-digit constraints
+    private static final int COLUMNS = 4 * CELLS;
+    private static final int CANDIDATES = CELLS * SIZE;
+    private static final int NODES = 1 + COLUMNS + 4 * CANDIDATES;
+
+    private final int[] left = new int[NODES];
+    private final int[] right = new int[NODES];
+    private final int[] up = new int[NODES];
+    private final int[] down = new int[NODES];
+    private final int[] column = new int[NODES];
+    // candidate (cell * 6 + digit - 1) of every data node
+    private final int[] candidateOf = new int[NODES];
+    private final int[] size = new int[COLUMNS + 1];
+    private final int[] firstNode = new int[CANDIDATES];
+
+    private final byte[] puzzle = new byte[CELLS];
+    // receives a solution before it is loaded into the caller's grid
+    private final byte[] extracted = new byte[CELLS];
+    private final int[] givenRows = new int[CELLS];
+    private final int[] rowAt = new int[CELLS];
+    private int givenCount;
+    private int depth;
+    private boolean resume;
+    private boolean exhausted;
+    // work of the searches since the counters were last collected, see GenerationStats
+    private long nodes;
+    private long backtracks;
+    private int maxDepth;
+    private long candidateTests;
+
+    /**
+     * Creates a solver and builds its exact cover matrix.
+     */
+    public DlxSolver() {
+        for (int c = 0; c <= COLUMNS; c++) {
+            left[c] = c == 0 ? COLUMNS : c - 1;
+            right[c] = c == COLUMNS ? 0 : c + 1;
+            up[c] = c;
+            down[c] = c;
+            column[c] = c;
+        }
+        int node = COLUMNS + 1;
+        for (int cell = 0; cell < CELLS; cell++) {
+            int row = cell / SIZE;
+            int col = cell % SIZE;
+            int block = SudokuGrid.blockIndex(row, col);
+            for (int d = 0; d < SIZE; d++) {
+                int candidate = cell * SIZE + d;
+                int first = node;
+                firstNode[candidate] = first;
+                int[] columns = {
+                        1 + cell,
+                        1 + CELLS + row * SIZE + d,
+                        1 + 2 * CELLS + col * SIZE + d,
+                        1 + 3 * CELLS + block * SIZE + d
+                };
+                for (int i = 0; i < 4; i++, node++) {
+                    int c = columns[i];
+                    column[node] = c;
+                    candidateOf[node] = candidate;
+                    // append at the bottom of the column
+                    up[node] = up[c];
+                    down[node] = c;
+                    down[up[c]] = node;
+                    up[c] = node;
+                    size[c]++;
+                    // link into the row
+                    left[node] = i == 0 ? first + 3 : node - 1;
+                    right[node] = i == 3 ? first : node + 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds a solution of a partially filled grid.
+     * @param puzzle the grid to solve; empty cells hold 0
+     * @param solution the grid that receives the solution; it is left untouched if there is none
+     * @return {@code true} if the puzzle has at least one solution
+     */
+    public boolean solve(SudokuGrid puzzle, SudokuGrid solution) {
+        if (!begin(puzzle)) {
+            return false;
+        }
+        boolean found = search();
+        if (found) {
+            extract(extracted);
+            solution.load(extracted);
+        }
+        end();
+        return found;
+    }
+
+    /**
+     * Counts the solutions of a partially filled grid, stopping as soon as {@code limit} are found.
+     * A limit of 2 is enough to tell whether a puzzle has a unique solution.
+     * @param puzzle the grid to solve; empty cells hold 0
+     * @param limit the maximum number of solutions to count
+     * @return the number of solutions found, at most {@code limit}
+     */
+    public int countSolutions(SudokuGrid puzzle, int limit) {
+        if (!begin(puzzle)) {
+            return 0;
+        }
+        int count = 0;
+        while (count < limit && search()) {
+            count++;
+        }
+        end();
+        return count;
+    }
+
+    /**
+     * Lazily enumerates every solution of a partially filled grid.
+     * Each solution is a new {@code byte[36]} in row-major order. The stream runs on its own
+     * matrix, so this solver can keep being used while the stream is consumed.
+     * @param puzzle the grid to solve; empty cells hold 0
+     * @return a sequential stream of solutions
+     */
+    public static Stream<byte[]> solutions(SudokuGrid puzzle) {
+        DlxSolver solver = new DlxSolver();
+        if (!solver.begin(puzzle)) {
+            return Stream.empty();
+        }
+        Spliterator<byte[]> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT) {
+            @Override
+            public boolean tryAdvance(Consumer<? super byte[]> action) {
+                if (!solver.search()) {
+                    return false;
+                }
+                byte[] cells = new byte[CELLS];
+                solver.extract(cells);
+                action.accept(cells);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Prepares a search by selecting the rows of the given cells.
+     * @return {@code false} if two given cells contradict each other
+     */
+    private boolean begin(SudokuGrid grid) {
+        grid.copyCellsTo(puzzle);
+        givenCount = 0;
+        depth = 0;
+        resume = false;
+        exhausted = false;
+        for (int cell = 0; cell < CELLS; cell++) {
+            int digit = puzzle[cell];
+            if (digit == 0) continue;
+            int first = firstNode[cell * SIZE + digit - 1];
+            // a constraint already satisfied by another given means the givens conflict
+            int n = first;
+            do {
+                if (isCovered(column[n])) {
+                    end();
+                    return false;
+                }
+                n = right[n];
+            } while (n != first);
+            selectRow(first);
+            givenRows[givenCount++] = first;
+        }
+        return true;
+    }
+
+    /**
+     * Restores the full matrix after a search, whether it finished or not.
+     */
+    private void end() {
+        while (depth > 0) {
+            deselectRow(rowAt[--depth]);
+        }
+        while (givenCount > 0) {
+            deselectRow(givenRows[--givenCount]);
+        }
+    }
+
+    /**
+     * Advances the search to the next solution.
+     * @return {@code true} if a solution was found; {@code false} if there are no more
+     */
+    private boolean search() {
+        if (exhausted) {
+            return false;
+        }
+        boolean forward = !resume;
+        resume = false;
+        while (true) {
+            int r;
+            if (forward) {
+                if (right[ROOT] == ROOT) {
+                    resume = true;
+                    return true;
+                }
+                int c = chooseColumn();
+                candidateTests += size[c];
+                if (size[c] == 0) {
+                    forward = false;
+                    continue;
+                }
+                cover(c);
+                r = down[c];
+            } else {
+                if (depth == 0) {
+                    exhausted = true;
+                    return false;
+                }
+                backtracks++;
+                int previous = rowAt[--depth];
+                for (int j = left[previous]; j != previous; j = left[j]) {
+                    uncover(column[j]);
+                }
+                r = down[previous];
+                if (r <= COLUMNS) {
+                    // every row of this column has been tried
+                    uncover(r);
+                    continue;
+                }
+            }
+            rowAt[depth++] = r;
+            nodes++;
+            if (depth > maxDepth) {
+                maxDepth = depth;
+            }
+            for (int j = right[r]; j != r; j = right[j]) {
+                cover(column[j]);
+            }
+            forward = true;
+        }
+    }
+
+    /**
+     * Returns how many times the search has gone back on a choice since the solver was created, or since
+     * its counters were last collected.
+     * @return the number of backtracks over every puzzle solved since then
+     * @see #collectStats(GenerationStats)
+     */
+    long getBacktracks() {
+        return backtracks;
+    }
+
+    /**
+     * Adds the work of the searches to the statistics of a board, and starts counting again from zero.
+     * @param stats the statistics to add to
+     */
+    void collectStats(GenerationStats stats) {
+        stats.add(nodes, backtracks, maxDepth, candidateTests);
+        nodes = 0;
+        backtracks = 0;
+        maxDepth = 0;
+        candidateTests = 0;
+    }
+
+    /**
+     * Returns the uncovered column with the fewest rows.
+     */
+    private int chooseColumn() {
+        int best = right[ROOT];
+        int bestSize = size[best];
+        for (int c = right[best]; c != ROOT && bestSize > 1; c = right[c]) {
+            if (size[c] < bestSize) {
+                best = c;
+                bestSize = size[c];
+            }
+        }
+        return best;
+    }
+
+    private boolean isCovered(int c) {
+        return right[left[c]] != c;
+    }
+
+    private void selectRow(int r) {
+        cover(column[r]);
+        for (int j = right[r]; j != r; j = right[j]) {
+            cover(column[j]);
+        }
+    }
+
+    private void deselectRow(int r) {
+        for (int j = left[r]; j != r; j = left[j]) {
+            uncover(column[j]);
+        }
+        uncover(column[r]);
+    }
+
+    private void cover(int c) {
+        right[left[c]] = right[c];
+        left[right[c]] = left[c];
+        for (int i = down[c]; i != c; i = down[i]) {
+            for (int j = right[i]; j != i; j = right[j]) {
+                down[up[j]] = down[j];
+                up[down[j]] = up[j];
+                size[column[j]]--;
+            }
+        }
+    }
+
+    private void uncover(int c) {
+        for (int i = up[c]; i != c; i = up[i]) {
+            for (int j = left[i]; j != i; j = left[j]) {
+                size[column[j]]++;
+                down[up[j]] = j;
+                up[down[j]] = j;
+            }
+        }
+        right[left[c]] = c;
+        left[right[c]] = c;
+    }
+
+    /**
+     * Writes the current solution, givens included, into a row-major array.
+     */
+    private void extract(byte[] cells) {
+        System.arraycopy(puzzle, 0, cells, 0, CELLS);
+        for (int i = 0; i < depth; i++) {
+            int candidate = candidateOf[rowAt[i]];
+            cells[candidate / SIZE] = (byte) (candidate % SIZE + 1);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.sudokugame.model;
+
+/**
+ * Rough sizes of heap objects, used to estimate how much memory a game takes.
+ * The figures assume a 64-bit JVM with compressed references: a 12-byte object header, 4-byte references
+ * and every object padded to a multiple of 8 bytes. They are estimates for sizing servers, not exact counts.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+final class Footprint {
+
+    /** Size of a reference field. */
+    static final int REFERENCE = 4;
+
+    private Footprint() {
+    }
+
+    /**
+     * Returns the size of an array.
+     * @param length the number of elements
+     * @param elementBytes the size of one element
+     * @return the size in bytes, including the header and the padding
+     */
+    static long array(int length, int elementBytes) {
+        return align(16L + (long) length * elementBytes);
+    }
+
+    /**
+     * Returns the size of an object with the given fields.
+     * @param fieldBytes the total size of the fields
+     * @return the size in bytes, including the header and the padding
+     */
+    static long object(int fieldBytes) {
+        return align(12L + fieldBytes);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.sudokugame.model;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and histograms of what the games do: how long boards take to generate and how much the solvers
+ * backtrack while generating them, how many moves are validated, hints served and undos made, and how many
+ * games are won and lost.
+ * <p>
+ * The metrics are shared by every game of the application and updated by the model as it works; counters are
+ * {@link LongAdder}s and durations go to a {@link Histogram}, so recording does not lock and does not allocate.
+ * They can be read as a {@link Snapshot}, watched through JMX once {@link #registerMBean()} is called, or
+ * published by any {@link MetricsExporter}.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class GameMetrics implements GameMetricsMBean {
+
+    /** Name under which the metrics are registered in the platform MBean server. */
+    public static final String OBJECT_NAME = "com.example.sudokugame:type=GameMetrics";
+
+    private static final GameMetrics INSTANCE = new GameMetrics();
+
+    private final Histogram generationNanos = new Histogram();
+    private final LongAdder backtracks = new LongAdder();
+    private final LongAdder validations = new LongAdder();
+    private final LongAdder hintsServed = new LongAdder();
+    private final Histogram undoDepth = new Histogram();
+    private final LongAdder gamesWon = new LongAdder();
+    private final LongAdder gamesLost = new LongAdder();
+
+    private GameMetrics() {
+    }
+
+    /**
+     * Returns the metrics of the application.
+     * @return the single instance
+     */
+    public static GameMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records the generation of a board.
+     * @param nanos how long the generation took
+     * @param backtracks how many times the solvers went back on a choice
+     */
+    void recordGeneration(long nanos, long backtracks) {
+        generationNanos.record(nanos);
+        this.backtracks.add(backtracks);
+    }
+
+    /**
+     * Records a move checked against the sudoku rules.
+     */
+    void recordValidation() {
+        validations.increment();
+    }
+
+    /**
+     * Records a hint given to a player.
+     */
+    void recordHint() {
+        hintsServed.increment();
+    }
+
+    /**
+     * Records an undo.
+     * @param depth the number of changes that could be undone before it
+     */
+    void recordUndo(int depth) {
+        undoDepth.record(depth);
+    }
+
+    void recordWin() {
+        gamesWon.increment();
+    }
+
+    void recordLoss() {
+        gamesLost.increment();
+    }
+
+    /**
+     * Reads every counter and histogram.
+     * @return the metrics at this point in time
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(generationNanos.snapshot(), backtracks.sum(), validations.sum(), hintsServed.sum(),
+                undoDepth.snapshot(), gamesWon.sum(), gamesLost.sum());
+    }
+
+    /**
+     * Publishes the current metrics.
+     * @param exporter where to publish them
+     */
+    public void export(MetricsExporter exporter) {
+        exporter.export(snapshot());
+    }
+
+    /**
+     * Publishes the metrics periodically.
+     * @param executor the executor that runs the exports
+     * @param exporter where to publish the metrics
+     * @param period the time between two exports
+     * @return the scheduled task, which can be cancelled to stop exporting
+     */
+    public ScheduledFuture<?> scheduleExport(ScheduledExecutorService executor, MetricsExporter exporter,
+                                             Duration period) {
+        long nanos = period.toNanos();
+        if (nanos <= 0) {
+            throw new IllegalArgumentException("Export period must be positive: " + period);
+        }
+        return executor.scheduleAtFixedRate(() -> export(exporter), nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server under {@link #OBJECT_NAME}, so that they can be
+     * watched with JConsole or any other JMX client. Registering again has no effect.
+     * @throws IllegalStateException if the MBean server refuses the registration
+     */
+    public void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = objectName();
+        synchronized (this) {
+            if (server.isRegistered(name)) {
+                return;
+            }
+            try {
+                server.registerMBean(this, name);
+            } catch (JMException e) {
+                throw new IllegalStateException("Could not register " + name, e);
+            }
+        }
+    }
+
+    private static ObjectName objectName() {
+        try {
+            return new ObjectName(OBJECT_NAME);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void reset() {
+        generationNanos.reset();
+        backtracks.reset();
+        validations.reset();
+        hintsServed.reset();
+        undoDepth.reset();
+        gamesWon.reset();
+        gamesLost.reset();
+    }
+
+    @Override
+    public long getBoardsGenerated() {
+        return generationNanos.snapshot().getCount();
+    }
+
+    @Override
+    public double getGenerationMeanMicros() {
+        return generationNanos.snapshot().getMean() / 1000;
+    }
+
+    @Override
+    public long getGenerationP50Micros() {
+        return generationNanos.snapshot().getPercentile(0.5) / 1000;
+    }
+
+    @Override
+    public long getGenerationP99Micros() {
+        return generationNanos.snapshot().getPercentile(0.99) / 1000;
+    }
+
+    @Override
+    public long getGenerationMaxMicros() {
+        return generationNanos.snapshot().getMax() / 1000;
+    }
+
+    @Override
+    public long getBacktracks() {
+        return backtracks.sum();
+    }
+
+    @Override
+    public long getValidations() {
+        return validations.sum();
+    }
+
+    @Override
+    public long getHintsServed() {
+        return hintsServed.sum();
+    }
+
+    @Override
+    public long getUndos() {
+        return undoDepth.snapshot().getCount();
+    }
+
+    @Override
+    public long getUndoDepthP99() {
+        return undoDepth.snapshot().getPercentile(0.99);
+    }
+
+    @Override
+    public long getUndoDepthMax() {
+        return undoDepth.snapshot().getMax();
+    }
+
+    @Override
+    public long getGamesWon() {
+        return gamesWon.sum();
+    }
+
+    @Override
+    public long getGamesLost() {
+        return gamesLost.sum();
+    }
+
+    /**
+     * The metrics of the games at one point in time.
+     */
+    public static final class Snapshot {
+        private final Histogram.Snapshot generationNanos;
+        private final long backtracks;
+        private final long validations;
+        private final long hintsServed;
+        private final Histogram.Snapshot undoDepth;
+        private final long gamesWon;
+        private final long gamesLost;
+
+        Snapshot(Histogram.Snapshot generationNanos, long backtracks, long validations, long hintsServed,
+                 Histogram.Snapshot undoDepth, long gamesWon, long gamesLost) {
+            this.generationNanos = generationNanos;
+            this.backtracks = backtracks;
+            this.validations = validations;
+            this.hintsServed = hintsServed;
+            this.undoDepth = undoDepth;
+            this.gamesWon = gamesWon;
+            this.gamesLost = gamesLost;
+        }
+
+        /**
+         * Returns the generation times of the boards.
+         * @return the histogram of the durations, in nanoseconds
+         */
+        public Histogram.Snapshot getGenerationNanos() {
+            return generationNanos;
+        }
+
+        public long getBacktracks() {
+            return backtracks;
+        }
+
+        public long getValidations() {
+            return validations;
+        }
+
+        public long getHintsServed() {
+            return hintsServed;
+        }
+
+        /**
+         * Returns how deep the undo history was at each undo.
+         * @return the histogram of the number of changes that could be undone
+         */
+        public Histogram.Snapshot getUndoDepth() {
+            return undoDepth;
+        }
+
+        public long getGamesWon() {
+            return gamesWon;
+        }
+
+        public long getGamesLost() {
+            return gamesLost;
+        }
+
+        /**
+         * Flattens the snapshot into named values, for exporters that publish plain metrics.
+         * @return the values by name, in a fixed order
+         */
+        public Map<String, Number> toMap() {
+            Map<String, Number> values = new LinkedHashMap<>();
+            values.put("sudoku.generation.count", generationNanos.getCount());
+            values.put("sudoku.generation.mean.nanos", generationNanos.getMean());
+            values.put("sudoku.generation.p50.nanos", generationNanos.getPercentile(0.5));
+            values.put("sudoku.generation.p99.nanos", generationNanos.getPercentile(0.99));
+            values.put("sudoku.generation.max.nanos", generationNanos.getMax());
+            values.put("sudoku.backtracks", backtracks);
+            values.put("sudoku.validations", validations);
+            values.put("sudoku.hints", hintsServed);
+            values.put("sudoku.undo.count", undoDepth.getCount());
+            values.put("sudoku.undo.depth.p99", undoDepth.getPercentile(0.99));
+            values.put("sudoku.undo.depth.max", undoDepth.getMax());
+            values.put("sudoku.games.won", gamesWon);
+            values.put("sudoku.games.lost", gamesLost);
+            return values;
+        }
+
+        @Override
+        public String toString() {
+            return "generation [" + generationNanos + "] ns, " + backtracks + " backtracks, " + validations
+                    + " validations, " + hintsServed + " hints, undo depth [" + undoDepth + "], " + gamesWon
+                    + " won, " + gamesLost + " lost";
+        }
+    }
+}
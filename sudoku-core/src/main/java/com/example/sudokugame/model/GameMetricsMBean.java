@@ -0,0 +1,42 @@
+package com.example.sudokugame.model;
+
+/**
+ * Management interface of {@link GameMetrics}, as shown by JMX clients such as JConsole.
+ * Durations are in microseconds.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public interface GameMetricsMBean {
+
+    long getBoardsGenerated();
+
+    double getGenerationMeanMicros();
+
+    long getGenerationP50Micros();
+
+    long getGenerationP99Micros();
+
+    long getGenerationMaxMicros();
+
+    long getBacktracks();
+
+    long getValidations();
+
+    long getHintsServed();
+
+    long getUndos();
+
+    long getUndoDepthP99();
+
+    long getUndoDepthMax();
+
+    long getGamesWon();
+
+    long getGamesLost();
+
+    /**
+     * Sets every counter and histogram back to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,275 @@
+package com.example.sudokugame.model;
+
+/**
+ * A single game of sudoku, independent of any user interface.
+ * It owns the {@link SudokuBoard} being played and applies the rules of the game on top of it:
+ * numbers that break the sudoku rules cost a life, hints are limited, and the initial numbers
+ * of the puzzle cannot be changed. A session can be driven by the JavaFX controller or hosted
+ * headless on a server.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public class GameSession {
+
+    /** Number of lives a player starts with. */
+    public static final int INITIAL_LIVES = 3;
+
+    /**
+     * Outcome of trying to place a number on the board.
+     */
+    public enum PlaceResult {
+        /** The number was stored in the cell. */
+        PLACED,
+        /** The number is already present in the row, column or block; the player lost a life. */
+        CONFLICT,
+        /** The cell cannot be changed, the number is out of range, or the game is over. */
+        REJECTED
+    }
+
+    private final SudokuBoard board;
+    private int lives = INITIAL_LIVES;
+    // a solved puzzle is counted as a win once, and never after the game was lost, even if the board is
+    // undone and solved again directly rather than through this session
+    private boolean won;
+
+    /**
+     * Starts a new game on a freshly generated {@link Difficulty#DEFAULT} board with a single solution.
+     * @see SudokuBoard#withUniqueSolution()
+     */
+    public GameSession() {
+        this(SudokuBoard.withUniqueSolution());
+    }
+
+    /**
+     * Starts a new game on the puzzle of the given seed and difficulty.
+     * @param seed the seed of the puzzle
+     * @param difficulty the difficulty of the puzzle
+     * @see SudokuBoard#fromSeed(long, Difficulty)
+     */
+    public GameSession(long seed, Difficulty difficulty) {
+        this(SudokuBoard.fromSeed(seed, difficulty));
+    }
+
+    /**
+     * Starts a new game on an existing board.
+     * @param board the board to play
+     */
+    public GameSession(SudokuBoard board) {
+        this.board = board;
+        board.addCompletionListener(completed -> {
+            if (!won && !isLost()) {
+                won = true;
+                GameMetrics.getInstance().recordWin();
+            }
+        });
+    }
+
+    /**
+     * Tries to place a number in a cell.
+     * If the number is already present in the row, column or block of the cell, the board is left
+     * unchanged and the player loses a life. Placing the number a cell already holds has no effect.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @param value the number to place, from 1 to 6
+     * @return the outcome of the move
+     */
+    public PlaceResult place(int row, int col, int value) {
+        if (isOver() || board.isGiven(row, col) || value < 1 || value > SudokuGrid.SIZE) {
+            return PlaceResult.REJECTED;
+        }
+        if (board.getCell(row, col) == value) {
+            return PlaceResult.PLACED;
+        }
+        GameMetrics.getInstance().recordValidation();
+        if (!board.isValid(row, col, value)) {
+            lives--;
+            if (lives == 0) {
+                GameMetrics.getInstance().recordLoss();
+            }
+            return PlaceResult.CONFLICT;
+        }
+        board.saveStateForUndo();
+        board.setCell(row, col, value);
+        return PlaceResult.PLACED;
+    }
+
+    /**
+     * Empties a cell filled in by the player.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return {@code true} if the cell was emptied; {@code false} if it is one of the initial numbers
+     *         or the game is over
+     */
+    public boolean erase(int row, int col) {
+        if (isOver() || board.isGiven(row, col)) {
+            return false;
+        }
+        board.saveStateForUndo();
+        board.setCell(row, col, 0);
+        return true;
+    }
+
+    /**
+     * Returns the pencil marks of a cell.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return a bitmask where bit {@code d} is set if digit {@code d} is a candidate, or 0 if the cell is filled
+     * @see SudokuBoard#getCandidates(int, int)
+     */
+    public int getCandidates(int row, int col) {
+        return board.getCandidates(row, col);
+    }
+
+    /**
+     * Crosses out a pencil mark of a cell, or restores it if it was already crossed out.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @param digit the digit, from 1 to 6
+     */
+    public void toggleCandidate(int row, int col, int digit) {
+        boolean shown = (board.getCandidates(row, col) & (1 << digit)) != 0;
+        board.setCandidateEliminated(row, col, digit, shown);
+    }
+
+    /**
+     * Uses one hint to fill a cell with its correct value.
+     * If the given cell is empty the hint is for that cell; otherwise any empty cell is chosen.
+     * @param row the row index of the preferred cell, or -1 for none
+     * @param col the column index of the preferred cell, or -1 for none
+     * @return the applied hint, or {@code null} if there are no hints left, no empty cells, or the game is over
+     */
+    public SudokuBoard.Hint hint(int row, int col) {
+        if (isOver() || board.getAttemptsLeft() <= 0) {
+            return null;
+        }
+        SudokuBoard.Hint hint = board.getHintForCell(row, col);
+        if (hint == null) {
+            hint = board.getHint();
+        }
+        if (hint != null) {
+            GameMetrics.getInstance().recordHint();
+            board.decreaseAttempts();
+            board.saveStateForUndo();
+            board.setCell(hint.row, hint.col, hint.value);
+        }
+        return hint;
+    }
+
+    /**
+     * Uses one hint on any empty cell.
+     * @return the applied hint, or {@code null} if there are no hints left, no empty cells, or the game is over
+     * @see #hint(int, int)
+     */
+    public SudokuBoard.Hint hint() {
+        return hint(-1, -1);
+    }
+
+    /**
+     * Records the current board so that the next {@link #undo()} returns to it.
+     * Every move made through this session is already its own undo step, so this is only needed to
+     * group changes made directly on the board.
+     */
+    public void saveStateForUndo() {
+        board.saveStateForUndo();
+    }
+
+    /**
+     * Takes back the last move. Once the game is over the board is final, like for any other move.
+     * @return {@code true} if a move was taken back, {@code false} if there was none or the game is over
+     */
+    public boolean undo() {
+        if (isOver() || !board.canUndo()) {
+            return false;
+        }
+        GameMetrics.getInstance().recordUndo(board.getUndoDepth());
+        board.undo();
+        return true;
+    }
+
+    /**
+     * Applies again the last change taken back by {@link #undo()}.
+     * @return {@code true} if a change was applied again, {@code false} if there was none or the game is over
+     */
+    public boolean redo() {
+        if (isOver() || !board.canRedo()) {
+            return false;
+        }
+        board.redo();
+        return true;
+    }
+
+    /**
+     * Names the current state of the board so that it can be restored later.
+     * @param name the name of the checkpoint
+     * @see SudokuBoard#saveCheckpoint(String)
+     */
+    public void saveCheckpoint(String name) {
+        board.saveCheckpoint(name);
+    }
+
+    /**
+     * Returns the board to the state of a checkpoint, as a move that can be undone.
+     * @param name the name of the checkpoint
+     * @return {@code true} if the checkpoint exists and the game is not over
+     */
+    public boolean restoreCheckpoint(String name) {
+        return !isOver() && board.restoreCheckpoint(name);
+    }
+
+    /**
+     * Checks if the puzzle has been solved correctly.
+     * The board keeps running counts of its empty and wrong cells, so this does not scan it.
+     * @return {@code true} if every cell holds the number of the solution
+     */
+    public boolean isComplete() {
+        return board.isSolved();
+    }
+
+    /**
+     * Registers a listener that is notified when the puzzle becomes solved, by a move, a hint, an undo or a redo.
+     * @param listener the listener to add
+     */
+    public void addCompletionListener(CompletionListener listener) {
+        board.addCompletionListener(listener);
+    }
+
+    /**
+     * Checks if the player has run out of lives.
+     * @return {@code true} if no lives are left
+     */
+    public boolean isLost() {
+        return lives <= 0;
+    }
+
+    /**
+     * Checks if the game has finished, either solved or lost.
+     * @return {@code true} if no more moves are accepted
+     */
+    public boolean isOver() {
+        return isLost() || isComplete();
+    }
+
+    /**
+     * Returns an estimate of the heap used by this game.
+     * @return the approximate size in bytes
+     * @see GameSessionManager#getStats()
+     */
+    long footprint() {
+        // the board also holds the completion listener that counts the win, a lambda capturing this session
+        return Footprint.object(Footprint.REFERENCE + Integer.BYTES + 1) + Footprint.object(Footprint.REFERENCE)
+                + board.footprint();
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getHintsLeft() {
+        return board.getAttemptsLeft();
+    }
+
+    public SudokuBoard getBoard() {
+        return board;
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.sudokugame.model;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Hosts many independent games at once, for example on a server with one game per player.
+ * Every game is a {@link GameSession} identified by a number handed out by {@link #create(SudokuBoard)}.
+ * <p>
+ * The sessions are kept in a {@link ConcurrentHashMap}, so creating, looking up and closing games never
+ * takes a global lock. A session is only touched inside {@link #withSession(long, Function)}, which holds
+ * the lock of that session alone: moves on the same game are applied one at a time, while different games
+ * run in parallel. Sessions that have not been used for longer than the idle timeout are closed by
+ * {@link #evictIdle()}, which can run periodically with {@link #scheduleEviction(ScheduledExecutorService)}.
+ * {@link #getStats()} reports the number of games and an estimate of the memory they use.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class GameSessionManager {
+
+    /** Idle time after which a session is evicted, unless another timeout is given. */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    // the map node, its boxed key and the managed session around each game
+    private static final long ENTRY_OVERHEAD = Footprint.object(4 * Footprint.REFERENCE)
+            + Footprint.object(Long.BYTES) + Footprint.object(2 * Footprint.REFERENCE + Long.BYTES + 1);
+
+    private final ConcurrentHashMap<Long, ManagedSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final long idleTimeoutNanos;
+    private final LongSupplier clock;
+    private final LongAdder created = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * Creates a manager that evicts sessions idle for {@link #DEFAULT_IDLE_TIMEOUT}.
+     */
+    public GameSessionManager() {
+        this(DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Creates a manager that evicts sessions idle for longer than the given time.
+     * @param idleTimeout how long a session may go unused before it is evicted
+     */
+    public GameSessionManager(Duration idleTimeout) {
+        this(idleTimeout, System::nanoTime);
+    }
+
+    /**
+     * Creates a manager that reads the time from the given clock, so that eviction can be driven by hand.
+     * @param idleTimeout how long a session may go unused before it is evicted
+     * @param clock returns the current time in nanoseconds, like {@link System#nanoTime()}
+     */
+    GameSessionManager(Duration idleTimeout, LongSupplier clock) {
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("Idle timeout must be positive: " + idleTimeout);
+        }
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Starts a game on the puzzle of the given seed and difficulty.
+     * @param seed the seed of the puzzle
+     * @param difficulty the difficulty of the puzzle
+     * @return the id of the new session
+     * @see SudokuBoard#fromSeed(long, Difficulty)
+     */
+    public long create(long seed, Difficulty difficulty) {
+        return create(SudokuBoard.fromSeed(seed, difficulty));
+    }
+
+    /**
+     * Starts a game on a puzzle of a puzzle bank, which is much faster than generating it.
+     * @param bank the bank holding the puzzle
+     * @param index the puzzle, from 0 to {@code bank.size() - 1}
+     * @return the id of the new session
+     */
+    public long create(PuzzleBank bank, long index) {
+        return create(new SudokuBoard(bank, index));
+    }
+
+    /**
+     * Starts a game on an existing board. The board must not be used elsewhere afterwards.
+     * @param board the board to play
+     * @return the id of the new session
+     */
+    public long create(SudokuBoard board) {
+        long id = nextId.incrementAndGet();
+        sessions.put(id, new ManagedSession(new GameSession(board), clock.getAsLong()));
+        created.increment();
+        return id;
+    }
+
+    /**
+     * Runs an action on a session while holding its lock, and marks the session as used.
+     * Actions on the same session run one at a time; actions on different sessions run in parallel.
+     * The session must not be kept and used after the action returns.
+     * @param id the id of the session
+     * @param action the action to run, for example {@code game -> game.place(row, col, value)}
+     * @param <R> the type of the result of the action
+     * @return the result of the action
+     * @throws NoSuchElementException if there is no such session, or it has been closed or evicted
+     */
+    public <R> R withSession(long id, Function<? super GameSession, ? extends R> action) {
+        ManagedSession managed = sessions.get(id);
+        if (managed != null) {
+            synchronized (managed) {
+                if (!managed.closed) {
+                    managed.lastAccess = clock.getAsLong();
+                    return action.apply(managed.session);
+                }
+            }
+        }
+        throw new NoSuchElementException("No session " + id);
+    }
+
+    /**
+     * Checks if a session is open.
+     * @param id the id of the session
+     * @return {@code true} if the session exists and has not been closed or evicted
+     */
+    public boolean contains(long id) {
+        return sessions.containsKey(id);
+    }
+
+    /**
+     * Ends a session, waiting for any action running on it to finish.
+     * @param id the id of the session
+     * @return {@code true} if the session was open
+     */
+    public boolean close(long id) {
+        ManagedSession managed = sessions.remove(id);
+        if (managed == null) {
+            return false;
+        }
+        synchronized (managed) {
+            managed.closed = true;
+        }
+        closed.increment();
+        return true;
+    }
+
+    /**
+     * Closes every session that has not been used for longer than the idle timeout.
+     * @return the number of sessions evicted
+     */
+    public int evictIdle() {
+        int count = 0;
+        for (var entry : sessions.entrySet()) {
+            ManagedSession managed = entry.getValue();
+            if (clock.getAsLong() - managed.lastAccess <= idleTimeoutNanos) {
+                continue;
+            }
+            synchronized (managed) {
+                // the session may have been used while waiting for its lock
+                if (managed.closed || clock.getAsLong() - managed.lastAccess <= idleTimeoutNanos) {
+                    continue;
+                }
+                managed.closed = true;
+            }
+            sessions.remove(entry.getKey(), managed);
+            evicted.increment();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Runs {@link #evictIdle()} periodically, four times per idle timeout, so a session is evicted at most
+     * a quarter of the timeout after it expires.
+     * @param executor the executor that runs the evictions
+     * @return the scheduled task, which can be cancelled to stop evicting
+     */
+    public ScheduledFuture<?> scheduleEviction(ScheduledExecutorService executor) {
+        long period = Math.max(1, idleTimeoutNanos / 4);
+        return executor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of open sessions.
+     * @return the number of sessions that have been created and not yet closed or evicted
+     */
+    public int getActiveSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * Collects the counters of the manager and estimates the memory used by the open sessions.
+     * The estimate visits every session without taking its lock, so it is approximate while games are
+     * being played.
+     * @return a snapshot of the counters
+     */
+    public Stats getStats() {
+        int active = 0;
+        long bytes = 0;
+        for (ManagedSession managed : sessions.values()) {
+            active++;
+            bytes += ENTRY_OVERHEAD + managed.session.footprint();
+        }
+        return new Stats(active, created.sum(), closed.sum(), evicted.sum(), bytes);
+    }
+
+    /**
+     * A game and the bookkeeping of the manager; the session is guarded by the monitor of this object.
+     */
+    private static final class ManagedSession {
+        private final GameSession session;
+        private volatile long lastAccess;
+        private boolean closed;
+
+        ManagedSession(GameSession session, long lastAccess) {
+            this.session = session;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * Counters and memory estimate of a {@link GameSessionManager} at one point in time.
+     */
+    public static final class Stats {
+        private final int activeSessions;
+        private final long created;
+        private final long closed;
+        private final long evicted;
+        private final long estimatedBytes;
+
+        Stats(int activeSessions, long created, long closed, long evicted, long estimatedBytes) {
+            this.activeSessions = activeSessions;
+            this.created = created;
+            this.closed = closed;
+            this.evicted = evicted;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        public int getActiveSessions() {
+            return activeSessions;
+        }
+
+        public long getCreated() {
+            return created;
+        }
+
+        public long getClosed() {
+            return closed;
+        }
+
+        public long getEvicted() {
+            return evicted;
+        }
+
+        /**
+         * Returns the estimated heap used by the open sessions.
+         * @return the approximate size in bytes
+         */
+        public long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+
+        /**
+         * Returns the estimated heap used by an open session on average.
+         * @return the approximate size in bytes, or 0 if there are no sessions
+         */
+        public long getBytesPerSession() {
+            return activeSessions == 0 ? 0 : estimatedBytes / activeSessions;
+        }
+
+        @Override
+        public String toString() {
+            return activeSessions + " active sessions (" + created + " created, " + closed + " closed, "
+                    + evicted + " evicted), about " + estimatedBytes / 1024 + " KiB, "
+                    + getBytesPerSession() + " bytes per session";
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.example.sudokugame.model;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Generates many boards and measures, for each one, the work done by the searches and the time it took,
+ * to find the seeds that are slow to generate and to compare generation strategies by their worst cases.
+ * <p>
+ * Board {@code i} is generated from seed {@code firstSeed + i} by a {@link BoardGenerator} seeded the same
+ * way as the rest of the game, so a slow seed found here can be generated again, for example with
+ * {@link Puzzle#generate(long, Difficulty)} or {@link SudokuBoard#SudokuBoard(long, BoardGenerator.Mode)}.
+ * The statistics of every board are collected into a {@link Report}, which gives percentiles across the
+ * boards and is written as CSV, one line per board, or JSON, with the percentiles and the slowest boards.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ * @see GenerationStats
+ */
+
+public final class GenerationProfiler {
+
+    /** Number of slowest boards listed in the JSON report. */
+    public static final int SLOWEST_IN_REPORT = 10;
+
+    /**
+     * Generates one board with a seeded generator.
+     */
+    @FunctionalInterface
+    public interface Task {
+        /**
+         * Generates a board.
+         * @param generator the generator to use, seeded for this board
+         */
+        void generate(BoardGenerator generator);
+    }
+
+    /**
+     * A measure of the work done for a board, to compute percentiles across boards.
+     */
+    public enum Metric {
+        NANOS("nanos") {
+            @Override
+            public long of(GenerationStats stats) {
+                return stats.getNanos();
+            }
+        },
+        NODES("nodes") {
+            @Override
+            public long of(GenerationStats stats) {
+                return stats.getNodes();
+            }
+        },
+        BACKTRACKS("backtracks") {
+            @Override
+            public long of(GenerationStats stats) {
+                return stats.getBacktracks();
+            }
+        },
+        MAX_DEPTH("maxDepth") {
+            @Override
+            public long of(GenerationStats stats) {
+                return stats.getMaxDepth();
+            }
+        },
+        CANDIDATE_TESTS("candidateTests") {
+            @Override
+            public long of(GenerationStats stats) {
+                return stats.getCandidateTests();
+            }
+        };
+
+        private final String key;
+
+        Metric(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Returns the name of the metric in the reports, as in {@link GenerationStats#CSV_HEADER}.
+         * @return the name
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Reads the metric from the statistics of a board.
+         * @param stats the statistics of the board
+         * @return the value of the metric
+         */
+        public abstract long of(GenerationStats stats);
+    }
+
+    private final String name;
+    private final Task task;
+
+    /**
+     * Creates a profiler for any way of generating boards, such as a new generation strategy.
+     * @param name the name of the task in the reports
+     * @param task generates one board
+     */
+    public GenerationProfiler(String name, Task task) {
+        this.name = name;
+        this.task = task;
+    }
+
+    /**
+     * Profiles filling an empty grid by backtracking.
+     * @return the profiler
+     * @see BoardGenerator#generateCompleteSolutionByBacktracking(SudokuGrid)
+     */
+    public static GenerationProfiler forBacktracking() {
+        SudokuGrid grid = new SudokuGrid();
+        return new GenerationProfiler("backtracking", generator -> {
+            grid.clear();
+            generator.generateCompleteSolutionByBacktracking(grid);
+        });
+    }
+
+    /**
+     * Profiles the boards of {@link SudokuBoard#SudokuBoard(long, BoardGenerator.Mode)}: a solution from
+     * the catalogue, cleared with the given mode.
+     * @param mode how the playable board is derived from the solution
+     * @return the profiler
+     */
+    public static GenerationProfiler forBoards(BoardGenerator.Mode mode) {
+        SudokuGrid solution = new SudokuGrid();
+        SudokuGrid board = new SudokuGrid();
+        return new GenerationProfiler(mode.name(), generator -> {
+            solution.clear();
+            generator.generateCompleteSolution(solution);
+            board.copyFrom(solution);
+            generator.clearCells(board, mode);
+        });
+    }
+
+    /**
+     * Profiles the puzzles of {@link Puzzle#generate(long, Difficulty)}, graded to a difficulty band.
+     * @param difficulty the difficulty of the puzzles
+     * @return the profiler
+     */
+    public static GenerationProfiler forPuzzles(Difficulty difficulty) {
+        SudokuGrid solution = new SudokuGrid();
+        SudokuGrid puzzle = new SudokuGrid();
+        return new GenerationProfiler(difficulty.name(),
+                generator -> generator.generatePuzzle(solution, puzzle, difficulty));
+    }
+
+    /**
+     * Profiles the minimal puzzles of {@link BoardGenerator#generatePuzzle(Geometry, byte[], byte[])}.
+     * @param geometry the shape of the grids
+     * @return the profiler
+     */
+    public static GenerationProfiler forGeometry(Geometry geometry) {
+        byte[] solution = new byte[geometry.getCells()];
+        byte[] puzzle = new byte[geometry.getCells()];
+        return new GenerationProfiler(geometry.toString(),
+                generator -> generator.generatePuzzle(geometry, solution, puzzle));
+    }
+
+    /**
+     * Generates boards from consecutive seeds and measures each one.
+     * The first boards also pay for the compilation of the generator; run a few boards first, and discard
+     * their report, to measure the generator at full speed.
+     * @param firstSeed the seed of the first board
+     * @param boards the number of boards
+     * @return the statistics of every board
+     */
+    public Report run(long firstSeed, int boards) {
+        if (boards < 1) {
+            throw new IllegalArgumentException("Expected at least one board: " + boards);
+        }
+        // shared like the solver of a PuzzleFactory; its counters are collected for every board
+        DlxSolver solver = new DlxSolver();
+        GenerationStats discarded = new GenerationStats(0);
+        List<GenerationStats> results = new ArrayList<>(boards);
+        for (int i = 0; i < boards; i++) {
+            long seed = firstSeed + i;
+            BoardGenerator generator = new BoardGenerator(new SplittableRandom(seed), solver);
+            generator.collectStats(discarded);
+            long start = System.nanoTime();
+            task.generate(generator);
+            GenerationStats stats = new GenerationStats(seed);
+            stats.setNanos(System.nanoTime() - start);
+            generator.collectStats(stats);
+            results.add(stats);
+        }
+        return new Report(name, results);
+    }
+
+    /**
+     * The statistics of the boards of a profiling run.
+     */
+    public static final class Report {
+        private final String task;
+        private final List<GenerationStats> boards;
+
+        Report(String task, List<GenerationStats> boards) {
+            this.task = task;
+            this.boards = Collections.unmodifiableList(boards);
+        }
+
+        public String getTask() {
+            return task;
+        }
+
+        /**
+         * Returns the statistics of every board, in the order of their seeds.
+         * @return the boards, unmodifiable
+         */
+        public List<GenerationStats> getBoards() {
+            return boards;
+        }
+
+        /**
+         * Computes the distribution of a metric across the boards.
+         * @param metric the metric
+         * @return the minimum, mean, percentiles and maximum
+         */
+        public Summary summarize(Metric metric) {
+            long[] values = new long[boards.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = metric.of(boards.get(i));
+            }
+            Arrays.sort(values);
+            return new Summary(values);
+        }
+
+        /**
+         * Returns the boards that took longest to generate.
+         * @param count the number of boards
+         * @return the slowest boards, slowest first
+         */
+        public List<GenerationStats> getSlowest(int count) {
+            List<GenerationStats> sorted = new ArrayList<>(boards);
+            sorted.sort(Comparator.comparingLong(GenerationStats::getNanos).reversed());
+            return sorted.subList(0, Math.min(count, sorted.size()));
+        }
+
+        /**
+         * Writes the statistics of every board as comma separated values, with a header line.
+         * @param path the file to write
+         * @throws IOException if the file cannot be written
+         */
+        public void writeCsv(Path path) throws IOException {
+            try (BufferedWriter out = Files.newBufferedWriter(path)) {
+                out.write(GenerationStats.CSV_HEADER);
+                out.newLine();
+                for (GenerationStats stats : boards) {
+                    out.write(stats.toCsv());
+                    out.newLine();
+                }
+            }
+        }
+
+        /**
+         * Writes the percentiles of every metric and the {@value #SLOWEST_IN_REPORT} slowest boards as JSON.
+         * @param path the file to write
+         * @throws IOException if the file cannot be written
+         */
+        public void writeJson(Path path) throws IOException {
+            Files.writeString(path, toJson());
+        }
+
+        /**
+         * Formats the percentiles of every metric and the slowest boards as a JSON object.
+         * @return the JSON text
+         */
+        public String toJson() {
+            StringBuilder json = new StringBuilder();
+            json.append("{\n  \"task\": \"").append(task).append("\",\n");
+            json.append("  \"boards\": ").append(boards.size()).append(",\n");
+            json.append("  \"metrics\": {\n");
+            Metric[] metrics = Metric.values();
+            for (int i = 0; i < metrics.length; i++) {
+                json.append("    \"").append(metrics[i].getKey()).append("\": ")
+                        .append(summarize(metrics[i]).toJson())
+                        .append(i < metrics.length - 1 ? ",\n" : "\n");
+            }
+            json.append("  },\n  \"slowest\": [\n");
+            List<GenerationStats> slowest = getSlowest(SLOWEST_IN_REPORT);
+            for (int i = 0; i < slowest.size(); i++) {
+                GenerationStats stats = slowest.get(i);
+                json.append("    {\"seed\": ").append(stats.getSeed());
+                for (Metric metric : metrics) {
+                    json.append(", \"").append(metric.getKey()).append("\": ").append(metric.of(stats));
+                }
+                json.append(i < slowest.size() - 1 ? "},\n" : "}\n");
+            }
+            json.append("  ]\n}\n");
+            return json.toString();
+        }
+
+        @Override
+        public String toString() {
+            return task + ", " + boards.size() + " boards: time " + summarize(Metric.NANOS) + " ns, nodes "
+                    + summarize(Metric.NODES) + ", backtracks " + summarize(Metric.BACKTRACKS);
+        }
+    }
+
+    /**
+     * The distribution of a metric across the boards of a report. Percentiles are nearest-rank values,
+     * so they are always the value of an actual board.
+     */
+    public static final class Summary {
+        private final long[] sorted;
+
+        Summary(long[] sorted) {
+            this.sorted = sorted;
+        }
+
+        public long getMin() {
+            return sorted[0];
+        }
+
+        public long getMax() {
+            return sorted[sorted.length - 1];
+        }
+
+        public double getMean() {
+            double sum = 0;
+            for (long value : sorted) {
+                sum += value;
+            }
+            return sum / sorted.length;
+        }
+
+        /**
+         * Returns the value below which the given fraction of the boards fall.
+         * @param fraction the fraction, from 0 to 1, for example 0.99 for the 99th percentile
+         * @return the value of the board at that rank
+         */
+        public long getPercentile(double fraction) {
+            int rank = (int) Math.ceil(fraction * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"min\": %d, \"mean\": %.1f, \"p50\": %d, \"p90\": %d, \"p99\": %d, \"p999\": %d, \"max\": %d}",
+                    getMin(), getMean(), getPercentile(0.5), getPercentile(0.9), getPercentile(0.99),
+                    getPercentile(0.999), getMax());
+        }
+
+        @Override
+        public String toString() {
+            return "p50 " + getPercentile(0.5) + ", p99 " + getPercentile(0.99) + ", max " + getMax();
+        }
+    }
+
+    /**
+     * Profiles a generation strategy and writes its report.
+     * The strategy is {@code backtracking}, a {@link BoardGenerator.Mode}, a {@link Difficulty}, or a block
+     * shape such as {@code 3x3}. The same number of boards is generated first, from the seeds before the
+     * first one, to warm up the generator; those boards are not reported.
+     * @param args the strategy, the number of boards, the first seed, the CSV file and the JSON file
+     * @throws IOException if a report cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        String strategy = args[0];
+        int boards = Integer.parseInt(args[1]);
+        long firstSeed = Long.parseLong(args[2]);
+
+        GenerationProfiler profiler = of(strategy);
+        profiler.run(firstSeed - boards, boards);
+        Report report = profiler.run(firstSeed, boards);
+        report.writeCsv(Path.of(args[3]));
+        report.writeJson(Path.of(args[4]));
+        System.out.println(report);
+    }
+
+    private static GenerationProfiler of(String strategy) {
+        String name = strategy.toUpperCase(Locale.ROOT);
+        if (name.equals("BACKTRACKING")) {
+            return forBacktracking();
+        }
+        for (BoardGenerator.Mode mode : BoardGenerator.Mode.values()) {
+            if (mode.name().equals(name)) {
+                return forBoards(mode);
+            }
+        }
+        for (Difficulty difficulty : Difficulty.values()) {
+            if (difficulty.name().equals(name)) {
+                return forPuzzles(difficulty);
+            }
+        }
+        String[] shape = name.split("X");
+        if (shape.length == 2) {
+            return forGeometry(Geometry.of(Integer.parseInt(shape[0]), Integer.parseInt(shape[1])));
+        }
+        throw new IllegalArgumentException("Unknown generation strategy: " + strategy);
+    }
+}
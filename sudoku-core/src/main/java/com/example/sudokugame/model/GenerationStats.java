@@ -0,0 +1,95 @@
+package com.example.sudokugame.model;
+
+/**
+ * The work done by the searches while generating one board, as measured by a {@link GenerationProfiler}.
+ * The figures add up every search run for the board: the backtracking fill of
+ * {@link BoardGenerator#generateCompleteSolutionByBacktracking(SudokuGrid)}, the uniqueness checks of the
+ * {@link DlxSolver} and the searches of the {@link MaskSolver}.
+ * <ul>
+ *     <li>nodes: choices made, a number placed in a cell or a row of the exact cover selected;</li>
+ *     <li>backtracks: choices taken back because they led to a dead end;</li>
+ *     <li>maximum depth: the most nested choice of any single search;</li>
+ *     <li>candidate tests: the alternatives examined at the choice points, such as the numbers a cell still
+ *     allows;</li>
+ *     <li>wall time: how long the board took, in nanoseconds.</li>
+ * </ul>
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class GenerationStats {
+
+    /** Column names of {@link #toCsv()}. */
+    public static final String CSV_HEADER = "seed,nanos,nodes,backtracks,maxDepth,candidateTests";
+
+    private final long seed;
+    private long nanos;
+    private long nodes;
+    private long backtracks;
+    private int maxDepth;
+    private long candidateTests;
+
+    /**
+     * Creates empty statistics for the board of a seed.
+     * @param seed the seed the board is generated from
+     */
+    public GenerationStats(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Adds the counters of a search.
+     * @param nodes the choices made
+     * @param backtracks the choices taken back
+     * @param maxDepth the deepest choice of the search
+     * @param candidateTests the alternatives examined
+     */
+    void add(long nodes, long backtracks, int maxDepth, long candidateTests) {
+        this.nodes += nodes;
+        this.backtracks += backtracks;
+        this.maxDepth = Math.max(this.maxDepth, maxDepth);
+        this.candidateTests += candidateTests;
+    }
+
+    void setNanos(long nanos) {
+        this.nanos = nanos;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getBacktracks() {
+        return backtracks;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getCandidateTests() {
+        return candidateTests;
+    }
+
+    /**
+     * Formats the statistics as a line of comma separated values, in the order of {@link #CSV_HEADER}.
+     * @return the line, without a line break
+     */
+    public String toCsv() {
+        return seed + "," + nanos + "," + nodes + "," + backtracks + "," + maxDepth + "," + candidateTests;
+    }
+
+    @Override
+    public String toString() {
+        return "seed " + seed + ": " + nanos / 1000 + " us, " + nodes + " nodes, " + backtracks + " backtracks, depth "
+                + maxDepth + ", " + candidateTests + " candidate tests";
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.sudokugame.model;
+
+/**
+ * The shape of a sudoku with rectangular blocks: a grid of {@code size x size} cells split into blocks of
+ * {@code blockRows x blockCols} cells, where {@code size = blockRows * blockCols} and each row, column and
+ * block holds every digit from 1 to {@code size} once.
+ * <p>
+ * The row, column and block of every cell, the cells of every unit and the peers of every cell are computed
+ * once per geometry and kept in flat {@code int} arrays, so the code that walks a grid never divides.
+ * The peers of a cell are the other cells of its row, column and block, each listed once: first the row,
+ * then the column, then the cells of the block outside both. Sets of digits are
+ * {@code int} masks where bit {@code d} stands for digit {@code d}, which fits every geometry up to
+ * {@value #MAX_SIZE}x{@value #MAX_SIZE}. Geometries are immutable and can be shared between threads.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class Geometry {
+
+    /** The largest supported number of digits. */
+    public static final int MAX_SIZE = 16;
+
+    /** 4x4 grid with 2x2 blocks. */
+    public static final Geometry FOUR_BY_FOUR = new Geometry(2, 2);
+    /** 6x6 grid with 2x3 blocks, the one played by the game. */
+    public static final Geometry SIX_BY_SIX = new Geometry(SudokuGrid.BLOCK_ROWS, SudokuGrid.BLOCK_COLS);
+    /** 8x8 grid with 2x4 blocks. */
+    public static final Geometry EIGHT_BY_EIGHT = new Geometry(2, 4);
+    /** Classic 9x9 grid with 3x3 blocks. */
+    public static final Geometry NINE_BY_NINE = new Geometry(3, 3);
+    /** 12x12 grid with 3x4 blocks. */
+    public static final Geometry TWELVE_BY_TWELVE = new Geometry(3, 4);
+    /** 16x16 grid with 4x4 blocks. */
+    public static final Geometry SIXTEEN_BY_SIXTEEN = new Geometry(4, 4);
+
+    private static final Geometry[] STANDARD = {
+            FOUR_BY_FOUR, SIX_BY_SIX, EIGHT_BY_EIGHT, NINE_BY_NINE, TWELVE_BY_TWELVE, SIXTEEN_BY_SIXTEEN
+    };
+
+    private final int blockRows;
+    private final int blockCols;
+    private final int size;
+    private final int cells;
+    private final int allDigits;
+    // row, column and block of every cell
+    final int[] rowOf;
+    final int[] colOf;
+    final int[] blockOf;
+    // the cells of unit u are at [u * size, (u + 1) * size); units are the rows, then the columns, then the blocks
+    final int[] unitCells;
+    // the row, column and block units of cell c are at [3 * c, 3 * c + 3)
+    final int[] unitsOf;
+    // the peers of cell c are at [c * peerCount, (c + 1) * peerCount)
+    final int[] peers;
+    private final int peerCount;
+
+    private Geometry(int blockRows, int blockCols) {
+        this.blockRows = blockRows;
+        this.blockCols = blockCols;
+        this.size = blockRows * blockCols;
+        this.cells = size * size;
+        this.allDigits = ((1 << size) - 1) << 1;
+        rowOf = new int[cells];
+        colOf = new int[cells];
+        blockOf = new int[cells];
+        unitCells = new int[3 * cells];
+        int blocksPerRow = size / blockCols;
+        int[] filled = new int[3 * size];
+        for (int cell = 0; cell < cells; cell++) {
+            int row = cell / size;
+            int col = cell % size;
+            int block = (row / blockRows) * blocksPerRow + col / blockCols;
+            rowOf[cell] = row;
+            colOf[cell] = col;
+            blockOf[cell] = block;
+            unitCells[row * size + filled[row]++] = cell;
+            unitCells[(size + col) * size + filled[size + col]++] = cell;
+            unitCells[(2 * size + block) * size + filled[2 * size + block]++] = cell;
+        }
+        unitsOf = new int[3 * cells];
+        peerCount = 3 * (size - 1) - (blockRows - 1) - (blockCols - 1);
+        peers = new int[cells * peerCount];
+        for (int cell = 0; cell < cells; cell++) {
+            int row = rowOf[cell];
+            int col = colOf[cell];
+            unitsOf[3 * cell] = row;
+            unitsOf[3 * cell + 1] = size + col;
+            unitsOf[3 * cell + 2] = 2 * size + blockOf[cell];
+            int next = cell * peerCount;
+            for (int i = 0; i < size; i++) {
+                int peer = unitCells[row * size + i];
+                if (peer != cell) peers[next++] = peer;
+            }
+            for (int i = 0; i < size; i++) {
+                int peer = unitCells[(size + col) * size + i];
+                if (peer != cell) peers[next++] = peer;
+            }
+            for (int i = 0; i < size; i++) {
+                int peer = unitCells[(2 * size + blockOf[cell]) * size + i];
+                if (rowOf[peer] != row && colOf[peer] != col) peers[next++] = peer;
+            }
+        }
+    }
+
+    /**
+     * Returns the geometry with blocks of the given shape.
+     * @param blockRows the number of rows of a block
+     * @param blockCols the number of columns of a block
+     * @return one of the shared instances for the standard shapes, or a new geometry
+     * @throws IllegalArgumentException if the shape is empty or has more than {@value #MAX_SIZE} digits
+     */
+    public static Geometry of(int blockRows, int blockCols) {
+        for (Geometry geometry : STANDARD) {
+            if (geometry.blockRows == blockRows && geometry.blockCols == blockCols) {
+                return geometry;
+            }
+        }
+        if (blockRows < 1 || blockCols < 1 || blockRows * blockCols > MAX_SIZE) {
+            throw new IllegalArgumentException("Unsupported block shape " + blockRows + "x" + blockCols);
+        }
+        return new Geometry(blockRows, blockCols);
+    }
+
+    /**
+     * Returns the number of rows, columns, blocks and digits.
+     * @return the side of the grid
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of rows of a block.
+     * @return the height of a block
+     */
+    public int getBlockRows() {
+        return blockRows;
+    }
+
+    /**
+     * Returns the number of columns of a block.
+     * @return the width of a block
+     */
+    public int getBlockCols() {
+        return blockCols;
+    }
+
+    /**
+     * Returns the number of cells of the grid.
+     * @return {@code size * size}
+     */
+    public int getCells() {
+        return cells;
+    }
+
+    /**
+     * Returns the mask of every digit of this geometry.
+     * @return a mask with bits 1 to {@code size} set
+     */
+    public int getAllDigits() {
+        return allDigits;
+    }
+
+    /**
+     * Returns the number of units: every row, column and block.
+     * @return {@code 3 * size}
+     */
+    public int getUnits() {
+        return 3 * size;
+    }
+
+    /**
+     * Returns the row of a cell.
+     * @param cell the row-major index of the cell
+     * @return the row index
+     */
+    public int row(int cell) {
+        return rowOf[cell];
+    }
+
+    /**
+     * Returns the column of a cell.
+     * @param cell the row-major index of the cell
+     * @return the column index
+     */
+    public int col(int cell) {
+        return colOf[cell];
+    }
+
+    /**
+     * Returns the block of a cell.
+     * @param cell the row-major index of the cell
+     * @return the block index, in row-major order of the blocks
+     */
+    public int block(int cell) {
+        return blockOf[cell];
+    }
+
+    /**
+     * Returns the block that contains the given cell.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return the block index, in row-major order of the blocks
+     */
+    public int blockIndex(int row, int col) {
+        return blockOf[row * size + col];
+    }
+
+    /**
+     * Returns a cell of a unit.
+     * @param unit the unit: rows are {@code 0} to {@code size - 1}, then the columns, then the blocks
+     * @param position the position of the cell within the unit, from 0 to {@code size - 1}
+     * @return the row-major index of the cell
+     */
+    public int unitCell(int unit, int position) {
+        return unitCells[unit * size + position];
+    }
+
+    /**
+     * Returns one of the units of a cell.
+     * @param cell the row-major index of the cell
+     * @param kind 0 for the row, 1 for the column, 2 for the block
+     * @return the unit index, as used by {@link #unitCell(int, int)}
+     */
+    public int unitOf(int cell, int kind) {
+        return unitsOf[3 * cell + kind];
+    }
+
+    /**
+     * Returns the number of peers of every cell.
+     * @return the number of other cells that share a row, column or block with a cell
+     */
+    public int getPeerCount() {
+        return peerCount;
+    }
+
+    /**
+     * Returns a peer of a cell. The peers in the same row come first, then those in the same column,
+     * then the rest of the block.
+     * @param cell the row-major index of the cell
+     * @param position the position of the peer, from 0 to {@code getPeerCount() - 1}
+     * @return the row-major index of the peer
+     */
+    public int peer(int cell, int position) {
+        return peers[cell * peerCount + position];
+    }
+
+    @Override
+    public String toString() {
+        return size + "x" + size + " (" + blockRows + "x" + blockCols + " blocks)";
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.sudokugame.model;
+
+/**
+ * Finds the next logical step of a puzzle the way a person would, using the {@link Technique}s in order of
+ * difficulty. The engine works on a candidate array: one bitmask per cell, where bit {@code d} is set if
+ * digit {@code d} is still possible. Units and peers are stored as 36-bit cell masks, so every technique is
+ * a few mask operations per unit and a step is found in microseconds.
+ * <p>
+ * An engine keeps scratch state and is not thread-safe; use one instance per thread.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class HintEngine {
+
+    private static final int SIZE = SudokuGrid.SIZE;
+    private static final int CELLS = SudokuGrid.CELLS;
+    private static final int UNITS = 3 * SIZE;
+    // units 0-5 are the rows, 6-11 the columns and 12-17 the blocks
+    private static final long[] UNIT_CELLS = new long[UNITS];
+    private static final long[] PEERS = new long[CELLS];
+    // the most steps a puzzle can need: one placement per cell and a few eliminations per candidate
+    private static final int MAX_STEPS = CELLS * (SIZE + 1);
+
+    static {
+        for (int cell = 0; cell < CELLS; cell++) {
+            int row = cell / SIZE;
+            int col = cell % SIZE;
+            UNIT_CELLS[row] |= 1L << cell;
+            UNIT_CELLS[SIZE + col] |= 1L << cell;
+            UNIT_CELLS[2 * SIZE + SudokuGrid.blockIndex(row, col)] |= 1L << cell;
+        }
+        for (int cell = 0; cell < CELLS; cell++) {
+            int row = cell / SIZE;
+            int col = cell % SIZE;
+            PEERS[cell] = (UNIT_CELLS[row] | UNIT_CELLS[SIZE + col]
+                    | UNIT_CELLS[2 * SIZE + SudokuGrid.blockIndex(row, col)]) & ~(1L << cell);
+        }
+    }
+
+    private final boolean explain;
+    private final SudokuGrid grid = new SudokuGrid();
+    private final int[] candidates = new int[CELLS];
+    // digitCells[d] has a bit set for every empty cell where digit d is a candidate
+    private final long[] digitCells = new long[SIZE + 1];
+
+    /**
+     * Creates an engine whose steps explain themselves to the player.
+     */
+    public HintEngine() {
+        this(true);
+    }
+
+    /**
+     * Creates an engine.
+     * @param explain {@code false} to leave the explanations of the steps empty, which avoids building
+     *                strings when only the techniques matter, as when grading puzzles
+     */
+    public HintEngine(boolean explain) {
+        this.explain = explain;
+    }
+
+    /**
+     * Returns an estimate of the heap used by this engine.
+     * @return the approximate size in bytes
+     */
+    long footprint() {
+        return Footprint.object(3 * Footprint.REFERENCE + 1) + grid.footprint()
+                + Footprint.array(CELLS, Integer.BYTES) + Footprint.array(SIZE + 1, Long.BYTES);
+    }
+
+    /**
+     * Writes the candidates allowed by the sudoku rules for every cell of a grid.
+     * @param grid the grid to inspect
+     * @param candidates an array of 36 ints that receives the masks; filled cells get 0
+     */
+    public static void initCandidates(SudokuGrid grid, int[] candidates) {
+        for (int cell = 0; cell < CELLS; cell++) {
+            candidates[cell] = grid.candidates(cell / SIZE, cell % SIZE);
+        }
+    }
+
+    /**
+     * Finds the cheapest step that applies to a grid and its candidates.
+     * @param grid the current cells
+     * @param candidates the current candidates, as set up by {@link #initCandidates(SudokuGrid, int[])} and
+     *                   narrowed by {@link #apply(SolvingStep, SudokuGrid, int[])}
+     * @return the step, or {@code null} if the grid is complete, contradictory, or needs a harder technique
+     */
+    public SolvingStep findStep(SudokuGrid grid, int[] candidates) {
+        for (int d = 1; d <= SIZE; d++) {
+            digitCells[d] = 0;
+        }
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (grid.get(cell) != 0) continue;
+            int mask = candidates[cell];
+            if (mask == 0) {
+                return null; // an empty cell with no candidate: the grid has no solution
+            }
+            if (Integer.bitCount(mask) == 1) {
+                int value = Integer.numberOfTrailingZeros(mask);
+                return new SolvingStep(Technique.NAKED_SINGLE, cell, value, 0, 0,
+                        explain ? "La celda " + cellName(cell) + " solo admite el " + value
+                                + ": los demás números ya están en su fila, su columna o su bloque." : null);
+            }
+            for (int bits = mask; bits != 0; bits &= bits - 1) {
+                digitCells[Integer.numberOfTrailingZeros(bits)] |= 1L << cell;
+            }
+        }
+
+        SolvingStep step = findHiddenSingle();
+        if (step == null) step = findNakedPair();
+        if (step == null) step = findHiddenPair();
+        if (step == null) step = findPointing();
+        if (step == null) step = findBoxLine();
+        return step;
+    }
+
+    /**
+     * Applies a step to a grid and its candidates: a placement fills the cell and removes the number from
+     * the candidates of its peers; an elimination removes the candidates from the affected cells.
+     * @param step the step to apply
+     * @param grid the cells to update
+     * @param candidates the candidates to update
+     */
+    public static void apply(SolvingStep step, SudokuGrid grid, int[] candidates) {
+        if (step.isPlacement()) {
+            int cell = step.getRow() * SIZE + step.getCol();
+            grid.set(step.getRow(), step.getCol(), step.getValue());
+            candidates[cell] = 0;
+            int bit = ~(1 << step.getValue());
+            for (long peers = PEERS[cell]; peers != 0; peers &= peers - 1) {
+                candidates[Long.numberOfTrailingZeros(peers)] &= bit;
+            }
+        } else {
+            for (long cells = step.getEliminatedCells(); cells != 0; cells &= cells - 1) {
+                candidates[Long.numberOfTrailingZeros(cells)] &= ~step.getEliminatedDigits();
+            }
+        }
+    }
+
+    /**
+     * Finds the next number that can be placed in a grid by logic alone, applying as many eliminations as
+     * needed first. The grid is not modified.
+     * @param puzzle the current cells
+     * @return the placement, whose technique is the hardest one used and whose explanation includes the
+     *         eliminations that led to it; {@code null} if no placement can be found with the known techniques
+     */
+    public SolvingStep nextPlacement(SudokuGrid puzzle) {
+        grid.copyFrom(puzzle);
+        initCandidates(grid, candidates);
+        Technique hardest = null;
+        StringBuilder reasons = null;
+        for (int steps = 0; steps < MAX_STEPS; steps++) {
+            SolvingStep step = findStep(grid, candidates);
+            if (step == null) {
+                return null;
+            }
+            if (step.isPlacement() && hardest == null) {
+                return step;
+            }
+            if (hardest == null || step.getTechnique().compareTo(hardest) > 0) {
+                hardest = step.getTechnique();
+            }
+            if (explain) {
+                if (reasons == null) {
+                    reasons = new StringBuilder();
+                }
+                reasons.append(step.getExplanation()).append(' ');
+            }
+            if (step.isPlacement()) {
+                int cell = step.getRow() * SIZE + step.getCol();
+                return new SolvingStep(hardest, cell, step.getValue(), 0, 0,
+                        explain ? reasons.toString().trim() : null);
+            }
+            apply(step, grid, candidates);
+        }
+        return null;
+    }
+
+    private SolvingStep findHiddenSingle() {
+        for (int unit = 0; unit < UNITS; unit++) {
+            for (int d = 1; d <= SIZE; d++) {
+                long cells = digitCells[d] & UNIT_CELLS[unit];
+                if (Long.bitCount(cells) == 1) {
+                    int cell = Long.numberOfTrailingZeros(cells);
+                    return new SolvingStep(Technique.HIDDEN_SINGLE, cell, d, 0, 0,
+                            explain ? "En " + unitName(unit) + " el " + d + " solo puede ir en la celda " + cellName(cell) + "." : null);
+                }
+            }
+        }
+        return null;
+    }
+
+    private SolvingStep findNakedPair() {
+        for (int unit = 0; unit < UNITS; unit++) {
+            long empty = emptyCells(unit);
+            for (long first = empty; first != 0; first &= first - 1) {
+                int a = Long.numberOfTrailingZeros(first);
+                int pair = candidates(a);
+                if (Integer.bitCount(pair) != 2) continue;
+                for (long second = first & (first - 1); second != 0; second &= second - 1) {
+                    int b = Long.numberOfTrailingZeros(second);
+                    if (candidates(b) != pair) continue;
+                    long affected = 0;
+                    for (int bits = pair; bits != 0; bits &= bits - 1) {
+                        affected |= digitCells[Integer.numberOfTrailingZeros(bits)];
+                    }
+                    affected &= UNIT_CELLS[unit] & ~(1L << a) & ~(1L << b);
+                    if (affected != 0) {
+                        return new SolvingStep(Technique.NAKED_PAIR, -1, 0, affected, pair,
+                                explain ? "Las celdas " + cellName(a) + " y " + cellName(b) + " de " + unitName(unit)
+                                        + " solo admiten el " + digitNames(pair) + ", así que esos números se"
+                                        + " descartan en el resto de " + unitName(unit) + "." : null);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private SolvingStep findHiddenPair() {
+        for (int unit = 0; unit < UNITS; unit++) {
+            for (int d1 = 1; d1 <= SIZE; d1++) {
+                long cells = digitCells[d1] & UNIT_CELLS[unit];
+                if (Long.bitCount(cells) != 2) continue;
+                for (int d2 = d1 + 1; d2 <= SIZE; d2++) {
+                    if ((digitCells[d2] & UNIT_CELLS[unit]) != cells) continue;
+                    int pair = (1 << d1) | (1 << d2);
+                    int a = Long.numberOfTrailingZeros(cells);
+                    int b = 63 - Long.numberOfLeadingZeros(cells);
+                    long affected = 0;
+                    if ((candidates(a) & ~pair) != 0) affected |= 1L << a;
+                    if ((candidates(b) & ~pair) != 0) affected |= 1L << b;
+                    if (affected != 0) {
+                        return new SolvingStep(Technique.HIDDEN_PAIR, -1, 0, affected, SudokuGrid.ALL_DIGITS & ~pair,
+                                explain ? "En " + unitName(unit) + " el " + digitNames(pair) + " solo pueden ir en las celdas "
+                                        + cellName(a) + " y " + cellName(b) + ", así que esas celdas no admiten"
+                                        + " otros números." : null);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private SolvingStep findPointing() {
+        for (int block = 2 * SIZE; block < UNITS; block++) {
+            for (int d = 1; d <= SIZE; d++) {
+                long cells = digitCells[d] & UNIT_CELLS[block];
+                if (cells == 0) continue;
+                for (int line = 0; line < 2 * SIZE; line++) {
+                    if ((cells & ~UNIT_CELLS[line]) != 0) continue;
+                    long affected = digitCells[d] & UNIT_CELLS[line] & ~UNIT_CELLS[block];
+                    if (affected != 0) {
+                        return new SolvingStep(Technique.POINTING, -1, 0, affected, 1 << d,
+                                explain ? "En " + unitName(block) + " el " + d + " solo puede ir en " + unitName(line)
+                                        + ", así que se descarta en el resto de " + unitName(line) + "." : null);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private SolvingStep findBoxLine() {
+        for (int line = 0; line < 2 * SIZE; line++) {
+            for (int d = 1; d <= SIZE; d++) {
+                long cells = digitCells[d] & UNIT_CELLS[line];
+                if (cells == 0) continue;
+                for (int block = 2 * SIZE; block < UNITS; block++) {
+                    if ((cells & ~UNIT_CELLS[block]) != 0) continue;
+                    long affected = digitCells[d] & UNIT_CELLS[block] & ~UNIT_CELLS[line];
+                    if (affected != 0) {
+                        return new SolvingStep(Technique.BOX_LINE, -1, 0, affected, 1 << d,
+                                explain ? "En " + unitName(line) + " el " + d + " solo puede ir en " + unitName(block)
+                                        + ", así que se descarta en el resto de " + unitName(block) + "." : null);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the empty cells of a unit, which are the cells with at least one candidate.
+     */
+    private long emptyCells(int unit) {
+        long cells = 0;
+        for (int d = 1; d <= SIZE; d++) {
+            cells |= digitCells[d];
+        }
+        return cells & UNIT_CELLS[unit];
+    }
+
+    /**
+     * Rebuilds the candidate mask of a cell from the digit masks of the current search.
+     */
+    private int candidates(int cell) {
+        int mask = 0;
+        for (int d = 1; d <= SIZE; d++) {
+            if ((digitCells[d] & (1L << cell)) != 0) mask |= 1 << d;
+        }
+        return mask;
+    }
+
+    private static String cellName(int cell) {
+        return "(fila " + (cell / SIZE + 1) + ", columna " + (cell % SIZE + 1) + ")";
+    }
+
+    private static String unitName(int unit) {
+        if (unit < SIZE) return "la fila " + (unit + 1);
+        if (unit < 2 * SIZE) return "la columna " + (unit - SIZE + 1);
+        return "el bloque " + (unit - 2 * SIZE + 1);
+    }
+
+    private static String digitNames(int pair) {
+        int first = Integer.numberOfTrailingZeros(pair);
+        int second = 31 - Integer.numberOfLeadingZeros(pair);
+        return first + " y el " + second;
+    }
+}
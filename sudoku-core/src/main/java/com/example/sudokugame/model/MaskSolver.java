@@ -0,0 +1,340 @@
+package com.example.sudokugame.model;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Backtracking solver for a sudoku of any {@link Geometry}.
+ * The digits used by every row, column and block are kept in {@code int} masks indexed through the tables
+ * of the geometry, so the candidates of a cell are one {@code OR} of three masks. The search places naked
+ * singles first, then hidden singles (a digit that only one empty cell of a row, column or block still
+ * allows, found from the candidates gathered per unit in the same pass), and otherwise branches on the empty
+ * cell with the fewest candidates, which keeps 9x9 and 16x16 grids fast where a cell-by-cell backtracking
+ * would not finish. A unit where a missing digit fits no cell ends the branch at once.
+ * <p>
+ * Grids are {@code byte} arrays of {@link Geometry#getCells()} values in row-major order, where 0 is an
+ * empty cell. A solver keeps scratch state and is not thread-safe; use one instance per thread.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class MaskSolver {
+
+    private static final int RESTART_NODES_PER_CELL = 4;
+
+    private final Geometry geometry;
+    private final int size;
+    private final int allDigits;
+    private final int[] rowOf;
+    private final int[] colOf;
+    private final int[] blockOf;
+    private final int[] unitCells;
+    private final int units;
+
+    private final byte[] cells;
+    private final int[] rowMask;
+    private final int[] colMask;
+    private final int[] blockMask;
+    // the empty cells; the search moves the cell it branches on to the end of the list
+    private final int[] empty;
+    // candidates of the empty cells, and for every unit the digits allowed by at least one and by at least
+    // two of its empty cells, as computed by the current search node
+    private final int[] candidatesOf;
+    private final int[] once;
+    private final int[] twice;
+    private byte[] solution;
+    private RandomGenerator random;
+    private long nodesLeft;
+    // empty cells when the current search started, to measure its depth
+    private int emptyAtStart;
+    // work of the searches since the counters were last collected, see GenerationStats
+    private long nodes;
+    private long backtracks;
+    private int maxDepth;
+    private long candidateTests;
+
+    /**
+     * Creates a solver for grids of the given geometry.
+     * @param geometry the shape of the grids to solve
+     */
+    public MaskSolver(Geometry geometry) {
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.allDigits = geometry.getAllDigits();
+        this.rowOf = geometry.rowOf;
+        this.colOf = geometry.colOf;
+        this.blockOf = geometry.blockOf;
+        this.unitCells = geometry.unitCells;
+        this.units = geometry.getUnits();
+        cells = new byte[geometry.getCells()];
+        rowMask = new int[size];
+        colMask = new int[size];
+        blockMask = new int[size];
+        empty = new int[geometry.getCells()];
+        candidatesOf = new int[geometry.getCells()];
+        once = new int[units];
+        twice = new int[units];
+    }
+
+    /**
+     * Returns the geometry of the grids this solver works on.
+     * @return the geometry
+     */
+    public Geometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Finds a solution of a partially filled grid.
+     * @param puzzle the grid to solve
+     * @param solution the array that receives the solution; it is left untouched if there is none
+     * @return {@code true} if the puzzle has at least one solution
+     */
+    public boolean solve(byte[] puzzle, byte[] solution) {
+        return run(puzzle, solution, null, 1, Long.MAX_VALUE) == 1;
+    }
+
+    /**
+     * Counts the solutions of a partially filled grid, stopping as soon as {@code limit} are found.
+     * A limit of 2 is enough to tell whether a puzzle has a unique solution.
+     * @param puzzle the grid to solve
+     * @param limit the maximum number of solutions to count
+     * @return the number of solutions found, at most {@code limit}
+     */
+    public int countSolutions(byte[] puzzle, int limit) {
+        return run(puzzle, null, null, limit, Long.MAX_VALUE);
+    }
+
+    /**
+     * Counts the solutions of a partially filled grid, giving up after visiting a number of search nodes.
+     * Very sparse 12x12 and 16x16 grids can take the search a long time; the budget bounds the cost of a
+     * single check.
+     * @param puzzle the grid to solve
+     * @param limit the maximum number of solutions to count
+     * @param maxNodes the maximum number of search nodes to visit
+     * @return the number of solutions found, at most {@code limit}, or -1 if the budget ran out first
+     */
+    public int countSolutions(byte[] puzzle, int limit, long maxNodes) {
+        return run(puzzle, null, null, limit, maxNodes);
+    }
+
+    /**
+     * Completes a grid with a random solution; the digits of every cell are tried in random order.
+     * A random search now and then wanders into a region without solutions that takes very long to leave,
+     * so it is restarted with new random choices after {@value #RESTART_NODES_PER_CELL} nodes per cell;
+     * the budget doubles on every restart, so a grid that has a solution is always completed.
+     * @param grid the grid to fill, usually empty; it is left untouched if it has no solution
+     * @param random the source of randomness
+     * @return {@code true} if the grid was completed
+     */
+    public boolean fillRandom(byte[] grid, RandomGenerator random) {
+        for (long budget = (long) RESTART_NODES_PER_CELL * cells.length; ; budget *= 2) {
+            int found = run(grid, grid, random, 1, budget);
+            if (found >= 0) {
+                return found == 1;
+            }
+        }
+    }
+
+    private int run(byte[] puzzle, byte[] solution, RandomGenerator random, int limit, long maxNodes) {
+        if (puzzle.length != cells.length) {
+            throw new IllegalArgumentException("Expected " + cells.length + " cells for a " + geometry
+                    + " grid, got " + puzzle.length);
+        }
+        Arrays.fill(rowMask, 0);
+        Arrays.fill(colMask, 0);
+        Arrays.fill(blockMask, 0);
+        int emptyCount = 0;
+        for (int cell = 0; cell < cells.length; cell++) {
+            int digit = puzzle[cell];
+            cells[cell] = (byte) digit;
+            if (digit == 0) {
+                empty[emptyCount++] = cell;
+                continue;
+            }
+            int bit = 1 << digit;
+            if (((rowMask[rowOf[cell]] | colMask[colOf[cell]] | blockMask[blockOf[cell]]) & bit) != 0) {
+                // two givens share a unit
+                return 0;
+            }
+            place(cell, bit);
+        }
+        this.solution = solution;
+        this.random = random;
+        this.nodesLeft = maxNodes;
+        this.emptyAtStart = emptyCount;
+        int found = search(emptyCount, limit);
+        this.solution = null;
+        this.random = null;
+        return nodesLeft < 0 ? -1 : found;
+    }
+
+    /**
+     * Counts the completions of the current grid, up to {@code limit}; the first one is copied to the
+     * solution array, if there is one.
+     */
+    private int search(int emptyCount, int limit) {
+        if (emptyCount == 0) {
+            if (solution != null) {
+                System.arraycopy(cells, 0, solution, 0, cells.length);
+                solution = null;
+            }
+            return 1;
+        }
+        if (--nodesLeft < 0) {
+            return 0;
+        }
+        // branch on the most constrained cell
+        int best = -1;
+        int bestCandidates = 0;
+        int bestCount = Integer.MAX_VALUE;
+        Arrays.fill(once, 0);
+        Arrays.fill(twice, 0);
+        for (int i = 0; i < emptyCount; i++) {
+            int cell = empty[i];
+            int candidates = candidates(cell);
+            candidatesOf[cell] = candidates;
+            allow(rowOf[cell], candidates);
+            allow(size + colOf[cell], candidates);
+            allow(2 * size + blockOf[cell], candidates);
+            int count = Integer.bitCount(candidates);
+            if (count < bestCount) {
+                best = i;
+                bestCandidates = candidates;
+                bestCount = count;
+                if (count <= 1) {
+                    break;
+                }
+            }
+        }
+        if (bestCount > 1) {
+            // no naked single: look for a hidden single, a digit with only one place left in a unit
+            int hidden = findHiddenSingle();
+            if (hidden < 0) {
+                // a digit has no place left in some unit
+                return 0;
+            }
+            if (hidden > 0) {
+                int hiddenCell = hidden >>> 5;
+                best = indexOfEmpty(hiddenCell);
+                bestCandidates = 1 << (hidden & 31);
+                bestCount = 1;
+            }
+        }
+        candidateTests += bestCount;
+        if (bestCount == 0) {
+            return 0;
+        }
+        int last = emptyCount - 1;
+        if (emptyAtStart - last > maxDepth) {
+            maxDepth = emptyAtStart - last;
+        }
+        int cell = empty[best];
+        empty[best] = empty[last];
+        empty[last] = cell;
+
+        int found = 0;
+        int remaining = bestCandidates;
+        while (remaining != 0 && found < limit && nodesLeft >= 0) {
+            int bit = random == null
+                    ? Integer.lowestOneBit(remaining)
+                    : 1 << BoardGenerator.nthSetBit(remaining, random.nextInt(Integer.bitCount(remaining)));
+            remaining &= ~bit;
+            place(cell, bit);
+            cells[cell] = (byte) Integer.numberOfTrailingZeros(bit);
+            nodes++;
+            int completions = search(last, limit - found);
+            if (completions == 0) {
+                backtracks++;
+            }
+            found += completions;
+            unplace(cell, bit);
+            cells[cell] = 0;
+        }
+        return found;
+    }
+
+    private void allow(int unit, int candidates) {
+        twice[unit] |= once[unit] & candidates;
+        once[unit] |= candidates;
+    }
+
+    /**
+     * Looks for a digit that only one empty cell of a unit still allows, using the candidates gathered
+     * while looking for the most constrained cell.
+     * @return the first hidden single found, as {@code cell << 5 | digit}; 0 if there is none, or -1 if a
+     * digit missing from a unit fits none of its empty cells, so the grid has no solution
+     */
+    private int findHiddenSingle() {
+        for (int unit = 0; unit < units; unit++) {
+            int missing = allDigits & ~unitMask(unit);
+            if ((missing & ~once[unit]) != 0) {
+                return -1;
+            }
+            int single = missing & ~twice[unit];
+            if (single != 0) {
+                int bit = Integer.lowestOneBit(single);
+                for (int i = unit * size; ; i++) {
+                    int cell = unitCells[i];
+                    if (cells[cell] == 0 && (candidatesOf[cell] & bit) != 0) {
+                        return cell << 5 | Integer.numberOfTrailingZeros(bit);
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    private int unitMask(int unit) {
+        if (unit < size) {
+            return rowMask[unit];
+        }
+        return unit < 2 * size ? colMask[unit - size] : blockMask[unit - 2 * size];
+    }
+
+    private int candidates(int cell) {
+        return allDigits & ~(rowMask[rowOf[cell]] | colMask[colOf[cell]] | blockMask[blockOf[cell]]);
+    }
+
+    private int indexOfEmpty(int cell) {
+        int i = 0;
+        while (empty[i] != cell) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns how many times the search has gone back on a choice since the solver was created, or since
+     * its counters were last collected.
+     * @return the number of backtracks over every grid searched since then
+     * @see #collectStats(GenerationStats)
+     */
+    long getBacktracks() {
+        return backtracks;
+    }
+
+    /**
+     * Adds the work of the searches to the statistics of a board, and starts counting again from zero.
+     * @param stats the statistics to add to
+     */
+    void collectStats(GenerationStats stats) {
+        stats.add(nodes, backtracks, maxDepth, candidateTests);
+        nodes = 0;
+        backtracks = 0;
+        maxDepth = 0;
+        candidateTests = 0;
+    }
+
+    private void place(int cell, int bit) {
+        rowMask[rowOf[cell]] |= bit;
+        colMask[colOf[cell]] |= bit;
+        blockMask[blockOf[cell]] |= bit;
+    }
+
+    private void unplace(int cell, int bit) {
+        rowMask[rowOf[cell]] &= ~bit;
+        colMask[colOf[cell]] &= ~bit;
+        blockMask[blockOf[cell]] &= ~bit;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.sudokugame.model;
+
+/**
+ * Publishes the metrics of the game somewhere, for example to a log, a file or a monitoring system.
+ * Exporters are called by {@link GameMetrics#export(MetricsExporter)}, or periodically once scheduled with
+ * {@link GameMetrics#scheduleExport(java.util.concurrent.ScheduledExecutorService, MetricsExporter, java.time.Duration)}.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@FunctionalInterface
+public interface MetricsExporter {
+
+    /**
+     * Publishes a snapshot of the metrics.
+     * @param snapshot the counters and histograms at one point in time
+     */
+    void export(GameMetrics.Snapshot snapshot);
+
+    /**
+     * Returns an exporter that writes every snapshot to a logger on a single line.
+     * Nothing is formatted if the level is disabled.
+     * @param logger the logger to write to
+     * @param level the level of the messages
+     * @return the exporter
+     */
+    static MetricsExporter logging(System.Logger logger, System.Logger.Level level) {
+        return snapshot -> logger.log(level, snapshot::toString);
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.sudokugame.model;
+
+import java.util.Arrays;
+
+/**
+ * Bounded undo and redo history of the changes made to a board.
+ * Every change is packed into an {@code int} (the cell, its old and new value, and whether it starts
+ * a new undo step) and stored in a ring buffer of fixed depth, so recording, undoing and redoing are
+ * O(1). The buffer starts small and doubles as changes are recorded until it reaches the depth, so a
+ * history that is barely used costs little memory; from then on it never allocates, and when it is full
+ * the oldest change is forgotten.
+ * <p>
+ * Changes are grouped into steps: {@link #beginStep()} makes the next recorded change start a new
+ * step, and changes recorded afterwards belong to it. Recording a change discards the changes that
+ * could be redone.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class MoveHistory {
+
+    /** Number of changes kept by default. */
+    public static final int DEFAULT_DEPTH = 1024;
+    /** Returned when there is no change to undo or redo. */
+    public static final int NONE = -1;
+
+    private static final int VALUE_BITS = 3;
+    private static final int VALUE_MASK = (1 << VALUE_BITS) - 1;
+    private static final int OLD_SHIFT = VALUE_BITS;
+    private static final int CELL_SHIFT = 2 * VALUE_BITS;
+    private static final int STEP_BIT = 1 << 12;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int depth;
+    private int[] moves;
+    // index of the oldest change
+    private int start;
+    // changes that can be undone, starting at start
+    private int count;
+    // changes that can be redone, right after the undoable ones
+    private int redoCount;
+    private boolean stepPending = true;
+
+    /**
+     * Creates a history that keeps the last {@value #DEFAULT_DEPTH} changes.
+     */
+    public MoveHistory() {
+        this(DEFAULT_DEPTH);
+    }
+
+    /**
+     * Creates a history that keeps a fixed number of changes.
+     * @param depth the maximum number of changes to keep
+     * @throws IllegalArgumentException if the depth is not positive
+     */
+    public MoveHistory(int depth) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException("History depth must be positive: " + depth);
+        }
+        this.depth = depth;
+        this.moves = new int[Math.min(depth, INITIAL_CAPACITY)];
+    }
+
+    /**
+     * Makes the next recorded change start a new undo step.
+     */
+    public void beginStep() {
+        stepPending = true;
+    }
+
+    /**
+     * Records a change of a cell.
+     * @param cell the index of the cell, {@code row * 6 + col}
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    public void record(int cell, int oldValue, int newValue) {
+        int move = pack(cell, oldValue, newValue);
+        if (stepPending || count == 0) {
+            move |= STEP_BIT;
+            stepPending = false;
+        }
+        redoCount = 0;
+        if (count == moves.length) {
+            if (moves.length < depth) {
+                // the buffer has not wrapped yet, so its changes start at index 0
+                moves = Arrays.copyOf(moves, Math.min(depth, moves.length * 2));
+            } else {
+                // forget the oldest change
+                start = wrap(start + 1);
+                count--;
+            }
+        }
+        moves[wrap(start + count)] = move;
+        count++;
+    }
+
+    /**
+     * Takes back the last change.
+     * @return the packed change that was undone, or {@link #NONE} if there is none
+     */
+    public int undo() {
+        if (count == 0) {
+            return NONE;
+        }
+        count--;
+        redoCount++;
+        return moves[wrap(start + count)];
+    }
+
+    /**
+     * Applies again the last change taken back.
+     * @return the packed change that was redone, or {@link #NONE} if there is none
+     */
+    public int redo() {
+        if (redoCount == 0) {
+            return NONE;
+        }
+        int move = moves[wrap(start + count)];
+        count++;
+        redoCount--;
+        return move;
+    }
+
+    /**
+     * Returns the change that {@link #redo()} would apply, without applying it.
+     * @return the packed change, or {@link #NONE} if there is none
+     */
+    public int peekRedo() {
+        return redoCount == 0 ? NONE : moves[wrap(start + count)];
+    }
+
+    public boolean canUndo() {
+        return count > 0;
+    }
+
+    public boolean canRedo() {
+        return redoCount > 0;
+    }
+
+    /**
+     * Returns how many changes can be undone.
+     * @return the number of changes kept before the current position, at most the depth
+     */
+    public int getUndoCount() {
+        return count;
+    }
+
+    /**
+     * Returns the maximum number of changes kept.
+     * @return the depth of the history
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Forgets every change.
+     */
+    public void clear() {
+        start = 0;
+        count = 0;
+        redoCount = 0;
+        stepPending = true;
+    }
+
+    /**
+     * Returns an estimate of the heap used by this history.
+     * @return the approximate size in bytes
+     */
+    long footprint() {
+        return Footprint.object(5 * Integer.BYTES + 1) + Footprint.array(moves.length, Integer.BYTES);
+    }
+
+    /**
+     * Packs a change of a cell into an {@code int}, as stored by the history and by {@link MoveLog}.
+     * @param cell the index of the cell, {@code row * 6 + col}
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     * @return the packed change
+     */
+    public static int pack(int cell, int oldValue, int newValue) {
+        return (cell << CELL_SHIFT) | (oldValue << OLD_SHIFT) | newValue;
+    }
+
+    public static int cell(int move) {
+        return (move >>> CELL_SHIFT) & 0x3F;
+    }
+
+    public static int oldValue(int move) {
+        return (move >>> OLD_SHIFT) & VALUE_MASK;
+    }
+
+    public static int newValue(int move) {
+        return move & VALUE_MASK;
+    }
+
+    /**
+     * Checks if a change is the first of an undo step.
+     * @param move a packed change
+     * @return {@code true} if undoing this change completes the undo of a step
+     */
+    public static boolean startsStep(int move) {
+        return (move & STEP_BIT) != 0;
+    }
+
+    private int wrap(int index) {
+        return index >= moves.length ? index - moves.length : index;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.sudokugame.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The complete timeline of a game: every change made to the cells, in order, starting from the
+ * initial board. Unlike {@link MoveHistory}, the log is never truncated; undoing a move appends the
+ * reverse change, so the log replays the game exactly as it was played. Since it grows with the length of
+ * the game, a board only keeps one when asked to with {@link SudokuBoard#recordMoves()}.
+ * <p>
+ * Changes are packed with {@link MoveHistory#pack(int, int, int)}. A snapshot of the cells is kept every
+ * {@value #SNAPSHOT_INTERVAL} changes, so the board at any position is rebuilt from the closest snapshot
+ * by applying at most {@value #SNAPSHOT_INTERVAL} changes, however long the game. Named checkpoints mark
+ * positions of the timeline that can be returned to later.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class MoveLog {
+
+    /** Number of changes between two snapshots of the cells. */
+    public static final int SNAPSHOT_INTERVAL = 64;
+
+    private static final int CELLS = SudokuGrid.CELLS;
+
+    private int[] moves = new int[SNAPSHOT_INTERVAL];
+    private int size;
+    // snapshot k, at offset k * 36, holds the cells after k * SNAPSHOT_INTERVAL changes
+    private byte[] snapshots = new byte[4 * CELLS];
+    private final byte[] current = new byte[CELLS];
+    private final Map<String, Integer> checkpoints = new LinkedHashMap<>();
+
+    /**
+     * Creates an empty log starting at the given cells.
+     * @param start the cells at the start of the game
+     */
+    public MoveLog(SudokuGrid start) {
+        start.copyCellsTo(current);
+        start.copyCellsTo(snapshots, 0);
+    }
+
+    /**
+     * Rebuilds a log from its starting cells and recorded changes, for example to analyze a saved game.
+     * @param start the cells at the start of the game
+     * @param moves the packed changes, as returned by {@link #toArray()}
+     */
+    public MoveLog(SudokuGrid start, int[] moves) {
+        this(start);
+        for (int move : moves) {
+            append(MoveHistory.cell(move), MoveHistory.oldValue(move), MoveHistory.newValue(move));
+        }
+    }
+
+    /**
+     * Appends a change of a cell to the log.
+     * @param cell the index of the cell, {@code row * 6 + col}
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     */
+    public void append(int cell, int oldValue, int newValue) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+        }
+        moves[size++] = MoveHistory.pack(cell, oldValue, newValue);
+        current[cell] = (byte) newValue;
+        if (size % SNAPSHOT_INTERVAL == 0) {
+            int offset = size / SNAPSHOT_INTERVAL * CELLS;
+            if (offset + CELLS > snapshots.length) {
+                snapshots = Arrays.copyOf(snapshots, snapshots.length * 2);
+            }
+            System.arraycopy(current, 0, snapshots, offset, CELLS);
+        }
+    }
+
+    /**
+     * Returns the number of changes in the log.
+     * @return the position of the end of the timeline
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a change of the log.
+     * @param position the index of the change, from 0 to {@code size() - 1}
+     * @return the packed change
+     */
+    public int get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Move " + position + " of " + size);
+        }
+        return moves[position];
+    }
+
+    /**
+     * Returns a copy of every change of the log, to store a game as its seed and its moves.
+     * @return the packed changes, in order
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(moves, size);
+    }
+
+    /**
+     * Writes into a grid the cells as they were after a number of changes.
+     * @param position the number of changes to apply, from 0 (the start of the game) to {@code size()}
+     * @param grid the grid to overwrite
+     */
+    public void stateAt(int position, SudokuGrid grid) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Position " + position + " of " + size);
+        }
+        int snapshot = position / SNAPSHOT_INTERVAL;
+        grid.load(snapshots, snapshot * CELLS);
+        for (int i = snapshot * SNAPSHOT_INTERVAL; i < position; i++) {
+            int cell = MoveHistory.cell(moves[i]);
+            grid.set(cell / SudokuGrid.SIZE, cell % SudokuGrid.SIZE, MoveHistory.newValue(moves[i]));
+        }
+    }
+
+    /**
+     * Returns an estimate of the heap used by this log, which grows with the length of the game.
+     * @return the approximate size in bytes
+     */
+    long footprint() {
+        return Footprint.object(4 * Footprint.REFERENCE + Integer.BYTES)
+                + Footprint.array(moves.length, Integer.BYTES)
+                + Footprint.array(snapshots.length, Byte.BYTES)
+                + Footprint.array(CELLS, Byte.BYTES)
+                // the map, its table and one entry and short name per checkpoint
+                + Footprint.object(40) + Footprint.array(16, Footprint.REFERENCE) + 96L * checkpoints.size();
+    }
+
+    /**
+     * Names the current end of the timeline, replacing any checkpoint with the same name.
+     * @param name the name of the checkpoint
+     */
+    public void checkpoint(String name) {
+        checkpoints.put(name, size);
+    }
+
+    /**
+     * Returns the position of a checkpoint.
+     * @param name the name of the checkpoint
+     * @return the number of changes made when the checkpoint was saved, or -1 if there is no such checkpoint
+     */
+    public int getCheckpoint(String name) {
+        Integer position = checkpoints.get(name);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Returns the names of the checkpoints, in the order they were first saved.
+     * @return a read-only set of names
+     */
+    public Set<String> getCheckpointNames() {
+        return Collections.unmodifiableSet(checkpoints.keySet());
+    }
+}
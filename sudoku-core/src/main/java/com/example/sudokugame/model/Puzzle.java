@@ -0,0 +1,130 @@
+package com.example.sudokugame.model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * An immutable generated puzzle: its initial numbers, its solution, its difficulty and the seed it
+ * was generated from. Cells are stored in row-major order, with 0 for the empty cells of the puzzle.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class Puzzle {
+
+    private final byte[] givens;
+    private final byte[] solution;
+    private final Difficulty difficulty;
+    private final long seed;
+
+    /**
+     * Creates a puzzle from the current contents of two grids.
+     * @param givens the grid holding the initial numbers
+     * @param solution the grid holding the complete solution
+     * @param difficulty the difficulty of the puzzle
+     * @param seed the seed the puzzle was generated from
+     */
+    public Puzzle(SudokuGrid givens, SudokuGrid solution, Difficulty difficulty, long seed) {
+        this.givens = new byte[SudokuGrid.CELLS];
+        this.solution = new byte[SudokuGrid.CELLS];
+        givens.copyCellsTo(this.givens);
+        solution.copyCellsTo(this.solution);
+        this.difficulty = difficulty;
+        this.seed = seed;
+    }
+
+    /**
+     * Generates the puzzle of a seed and difficulty.
+     * Every random choice is derived from the seed, so the same arguments always give the same puzzle.
+     * @param seed the seed of the puzzle
+     * @param difficulty the difficulty of the puzzle
+     * @return the generated puzzle
+     */
+    public static Puzzle generate(long seed, Difficulty difficulty) {
+        return generate(seed, difficulty, new DlxSolver(), new SudokuGrid(), new SudokuGrid());
+    }
+
+    /**
+     * Generates the puzzle of a seed and difficulty reusing a solver and scratch grids.
+     */
+    static Puzzle generate(long seed, Difficulty difficulty, DlxSolver solver, SudokuGrid solution, SudokuGrid puzzle) {
+        long start = System.nanoTime();
+        BoardGenerator generator = new BoardGenerator(new SplittableRandom(seed), solver);
+        long backtracks = generator.getBacktracks();
+        generator.generatePuzzle(solution, puzzle, difficulty);
+        GameMetrics.getInstance().recordGeneration(System.nanoTime() - start, generator.getBacktracks() - backtracks);
+        return new Puzzle(puzzle, solution, difficulty, seed);
+    }
+
+    /**
+     * Returns an initial number of the puzzle.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return the number in the cell, or 0 if it starts empty
+     */
+    public int getGiven(int row, int col) {
+        return givens[row * SudokuGrid.SIZE + col];
+    }
+
+    /**
+     * Returns a number of the solution.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return the number the cell holds in the solution
+     */
+    public int getSolution(int row, int col) {
+        return solution[row * SudokuGrid.SIZE + col];
+    }
+
+    /**
+     * Returns how many cells of the puzzle start filled in.
+     * @return the number of clues
+     */
+    public int getClueCount() {
+        int clues = 0;
+        for (byte value : givens) {
+            if (value != 0) clues++;
+        }
+        return clues;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Puzzle)) return false;
+        Puzzle puzzle = (Puzzle) other;
+        return difficulty == puzzle.difficulty
+                && seed == puzzle.seed
+                && Arrays.equals(givens, puzzle.givens)
+                && Arrays.equals(solution, puzzle.solution);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(givens) + Arrays.hashCode(solution);
+    }
+
+    /**
+     * Loads the initial numbers into a grid.
+     * @param grid the grid to overwrite
+     */
+    public void copyGivensTo(SudokuGrid grid) {
+        grid.load(givens);
+    }
+
+    /**
+     * Loads the solution into a grid.
+     * @param grid the grid to overwrite
+     */
+    public void copySolutionTo(SudokuGrid grid) {
+        grid.load(solution);
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.sudokugame.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file of pre-generated puzzles with constant-time access to any of them.
+ * The file starts with a {@value #HEADER_BYTES}-byte header (a magic number, a version, the record size
+ * and the number of puzzles) followed by one {@value #RECORD_BYTES}-byte record per puzzle:
+ * <ul>
+ *     <li>the initial numbers, as written by {@link BoardCodec#encodePuzzle(SudokuGrid, ByteBuffer)};</li>
+ *     <li>the solution, as written by {@link BoardCodec#encodeSolution(SudokuGrid, ByteBuffer)};</li>
+ *     <li>the seed of the puzzle, 8 bytes;</li>
+ *     <li>the {@link Difficulty} ordinal, 1 byte, and one unused byte.</li>
+ * </ul>
+ * The reader maps the file into memory in chunks of at most {@value #CHUNK_BYTES} bytes, so banks larger
+ * than 2 GB are supported, and reads records with absolute gets: loading a puzzle is a page lookup that
+ * neither deserializes the file nor allocates. A bank can be read by several threads at once.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class PuzzleBank implements Closeable {
+
+    /** Size of the file header, in bytes. */
+    public static final int HEADER_BYTES = 32;
+    /** Size of a puzzle record, in bytes. */
+    public static final int RECORD_BYTES = 32;
+
+    private static final int MAGIC = 0x53444B42; // "SDKB"
+    private static final int VERSION = 1;
+    // a multiple of the record size, so that no record spans two chunks
+    private static final int CHUNK_BYTES = 1 << 30;
+    private static final int RECORDS_PER_CHUNK = CHUNK_BYTES / RECORD_BYTES;
+    private static final int SOLUTION_OFFSET = BoardCodec.PUZZLE_BYTES;
+    private static final int SEED_OFFSET = SOLUTION_OFFSET + BoardCodec.SOLUTION_BYTES;
+    private static final int DIFFICULTY_OFFSET = SEED_OFFSET + 8;
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] chunks;
+    private final long size;
+
+    private PuzzleBank(FileChannel channel, MappedByteBuffer[] chunks, long size) {
+        this.channel = channel;
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    /**
+     * Opens a puzzle bank for reading.
+     * @param path the bank file
+     * @return the opened bank
+     * @throws IOException if the file cannot be read or is not a puzzle bank
+     */
+    public static PuzzleBank open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+                // keep reading until the header is complete
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC
+                    || header.getShort() != VERSION || header.getShort() != RECORD_BYTES) {
+                throw new IOException("Not a puzzle bank: " + path);
+            }
+            long size = header.getLong();
+            if (size < 0 || HEADER_BYTES + size * RECORD_BYTES > channel.size()) {
+                throw new IOException("Truncated puzzle bank: " + path);
+            }
+
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((size + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK)];
+            for (int i = 0; i < chunks.length; i++) {
+                long first = (long) i * RECORDS_PER_CHUNK;
+                long records = Math.min(RECORDS_PER_CHUNK, size - first);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + first * RECORD_BYTES,
+                        records * RECORD_BYTES);
+            }
+            return new PuzzleBank(channel, chunks, size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a puzzle bank, replacing any existing file.
+     * @param path the bank file
+     * @return a writer that appends puzzles to the bank
+     * @throws IOException if the file cannot be created
+     */
+    public static Writer create(Path path) throws IOException {
+        return new Writer(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    /**
+     * Returns the number of puzzles in the bank.
+     * @return the number of records
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Loads the initial numbers of a puzzle into a grid.
+     * @param index the puzzle, from 0 to {@code size() - 1}
+     * @param grid the grid to overwrite
+     */
+    public void copyGivensTo(long index, SudokuGrid grid) {
+        BoardCodec.decodePuzzle(chunk(index), offset(index), grid);
+    }
+
+    /**
+     * Loads the solution of a puzzle into a grid.
+     * @param index the puzzle, from 0 to {@code size() - 1}
+     * @param grid the grid to overwrite
+     */
+    public void copySolutionTo(long index, SudokuGrid grid) {
+        BoardCodec.decodeSolution(chunk(index), offset(index) + SOLUTION_OFFSET, grid);
+    }
+
+    /**
+     * Returns the seed a puzzle was generated from.
+     * @param index the puzzle, from 0 to {@code size() - 1}
+     * @return the seed of the puzzle
+     */
+    public long getSeed(long index) {
+        return chunk(index).getLong(offset(index) + SEED_OFFSET);
+    }
+
+    /**
+     * Returns the difficulty of a puzzle.
+     * @param index the puzzle, from 0 to {@code size() - 1}
+     * @return the difficulty of the puzzle
+     */
+    public Difficulty getDifficulty(long index) {
+        return DIFFICULTIES[chunk(index).get(offset(index) + DIFFICULTY_OFFSET)];
+    }
+
+    /**
+     * Reads a whole puzzle into a new object.
+     * @param index the puzzle, from 0 to {@code size() - 1}
+     * @return the puzzle
+     */
+    public Puzzle get(long index) {
+        SudokuGrid givens = new SudokuGrid();
+        SudokuGrid solution = new SudokuGrid();
+        copyGivensTo(index, givens);
+        copySolutionTo(index, solution);
+        return new Puzzle(givens, solution, getDifficulty(index), getSeed(index));
+    }
+
+    private MappedByteBuffer chunk(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Puzzle " + index + " of " + size);
+        }
+        return chunks[(int) (index / RECORDS_PER_CHUNK)];
+    }
+
+    private static int offset(long index) {
+        return (int) (index % RECORDS_PER_CHUNK) * RECORD_BYTES;
+    }
+
+    /**
+     * Closes the file. The mapped memory is released once the bank is garbage collected, so
+     * puzzles must not be read after closing.
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Appends puzzles to a new bank file through a reused buffer; the header is written on {@link #close()}.
+     */
+    public static final class Writer implements Closeable {
+
+        private static final int BUFFER_RECORDS = 2048;
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS * RECORD_BYTES);
+        private final SudokuGrid givens = new SudokuGrid();
+        private final SudokuGrid solution = new SudokuGrid();
+        private long size;
+
+        private Writer(FileChannel channel) throws IOException {
+            this.channel = channel;
+            channel.position(HEADER_BYTES);
+        }
+
+        /**
+         * Appends a puzzle to the bank.
+         * @param puzzle the puzzle to store
+         * @throws IOException if the file cannot be written
+         */
+        public void write(Puzzle puzzle) throws IOException {
+            puzzle.copyGivensTo(givens);
+            puzzle.copySolutionTo(solution);
+            write(givens, solution, puzzle.getDifficulty(), puzzle.getSeed());
+        }
+
+        /**
+         * Appends a puzzle to the bank.
+         * @param givens the initial numbers of the puzzle
+         * @param solution the complete solution of the puzzle
+         * @param difficulty the difficulty of the puzzle
+         * @param seed the seed the puzzle was generated from
+         * @throws IOException if the file cannot be written
+         */
+        public void write(SudokuGrid givens, SudokuGrid solution, Difficulty difficulty, long seed) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            BoardCodec.encodePuzzle(givens, buffer);
+            BoardCodec.encodeSolution(solution, buffer);
+            buffer.putLong(seed);
+            buffer.put((byte) difficulty.ordinal());
+            buffer.put((byte) 0);
+            size++;
+        }
+
+        /**
+         * Returns how many puzzles have been written so far.
+         * @return the number of records
+         */
+        public long size() {
+            return size;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Writes the remaining records and the header, then closes the file.
+         * @throws IOException if the file cannot be written
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                header.putInt(MAGIC).putShort((short) VERSION).putShort((short) RECORD_BYTES).putLong(size);
+                header.clear();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Generates a bank of puzzles with a {@link PuzzleFactory}.
+     * @param args the path of the bank, the number of puzzles, the difficulty and the master seed
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Path.of(args[0]);
+        long count = Long.parseLong(args[1]);
+        Difficulty difficulty = Difficulty.valueOf(args[2]);
+        long masterSeed = Long.parseLong(args[3]);
+
+        PuzzleFactory factory = new PuzzleFactory();
+        try (Writer writer = create(path)) {
+            // generate in batches so that huge banks do not need all puzzles in memory
+            for (long batch = 0; writer.size() < count; batch++) {
+                int batchSize = (int) Math.min(1 << 16, count - writer.size());
+                for (Puzzle puzzle : factory.generate(batchSize, difficulty, masterSeed + batch)) {
+                    writer.write(puzzle);
+                }
+            }
+        }
+        System.out.println(count + " puzzles written to " + path);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.sudokugame.model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generates large batches of puzzles in parallel on a {@link ForkJoinPool}.
+ * The requested range of puzzles is split in halves until each part has at most {@value #BATCH_SIZE}
+ * puzzles. Every split hands a {@link SplittableRandom#split()} of the parent's generator to the
+ * new half, so each batch owns its random generator and its solver. A batch draws the seed of each
+ * of its puzzles from its generator and builds the puzzle with {@link Puzzle#generate(long, Difficulty)}.
+ * Because the split tree only depends on the number of puzzles, the same master seed always produces
+ * the same puzzles in the same order, whatever the number of threads.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public class PuzzleFactory {
+
+    /** Largest number of puzzles generated sequentially by a single task. */
+    static final int BATCH_SIZE = 64;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a factory that runs on the common fork-join pool.
+     */
+    public PuzzleFactory() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a factory that runs on the given pool.
+     * @param pool the pool that executes the generation tasks
+     */
+    public PuzzleFactory(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Generates puzzles of the given difficulty, each with a single solution.
+     * @param count how many puzzles to generate
+     * @param difficulty the difficulty of every puzzle
+     * @param masterSeed the seed all the random choices are derived from
+     * @return the generated puzzles; the same arguments always give the same array
+     */
+    public Puzzle[] generate(int count, Difficulty difficulty, long masterSeed) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
+        Puzzle[] puzzles = new Puzzle[count];
+        pool.invoke(new GenerateTask(puzzles, 0, count, difficulty, new SplittableRandom(masterSeed)));
+        return puzzles;
+    }
+
+    /**
+     * Fills a range of the result array, splitting it while it is larger than a batch.
+     */
+    private static final class GenerateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Puzzle[] puzzles;
+        private final int from;
+        private final int to;
+        private final Difficulty difficulty;
+        private final SplittableRandom random;
+
+        GenerateTask(Puzzle[] puzzles, int from, int to, Difficulty difficulty, SplittableRandom random) {
+            this.puzzles = puzzles;
+            this.from = from;
+            this.to = to;
+            this.difficulty = difficulty;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                DlxSolver solver = new DlxSolver();
+                SudokuGrid solution = new SudokuGrid();
+                SudokuGrid puzzle = new SudokuGrid();
+                for (int i = from; i < to; i++) {
+                    puzzles[i] = Puzzle.generate(random.nextLong(), difficulty, solver, solution, puzzle);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            // split before forking so the tree of generators does not depend on scheduling
+            GenerateTask right = new GenerateTask(puzzles, middle, to, difficulty, random.split());
+            GenerateTask left = new GenerateTask(puzzles, from, middle, difficulty, random);
+            invokeAll(left, right);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.sudokugame.model;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Generates boards in the background and keeps a few of them ready, so that starting a game does not have
+ * to wait for the generator.
+ * <p>
+ * The supplier holds a bounded queue of finished boards. {@link #prefetch()} starts filling it, typically when
+ * the application starts; {@link #next()} takes one from the queue, and every board taken is replaced by a new
+ * one generated on the executor, one at a time. When the queue has run dry,
+ * {@link #next()} returns a future that completes as soon as the next board is generated; a user interface can
+ * show that it is waiting until then, and follow the queue through a {@link ProgressListener}.
+ * Futures are completed and listeners are called on the generating thread, so a user interface has to hand
+ * the results over to its own thread.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class PuzzleSupplier implements AutoCloseable {
+
+    /** Number of boards kept ready, unless another capacity is given. */
+    public static final int DEFAULT_CAPACITY = 3;
+
+    /**
+     * Follows the number of boards ready and the number of requests waiting for a board.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called whenever a board is handed over or a new one is generated.
+         * @param ready the number of boards in the queue
+         * @param waiting the number of requests waiting for a board to be generated
+         */
+        void progress(int ready, int waiting);
+    }
+
+    private final Supplier<SudokuBoard> factory;
+    private final int capacity;
+    private final Executor executor;
+    // the executor created by the supplier itself, shut down on close
+    private final ExecutorService ownExecutor;
+    private final List<ProgressListener> listeners = new CopyOnWriteArrayList<>();
+
+    // guarded by the monitor of this supplier
+    private final ArrayDeque<SudokuBoard> ready;
+    private final ArrayDeque<CompletableFuture<SudokuBoard>> waiting = new ArrayDeque<>();
+    private boolean refilling;
+    private boolean closed;
+
+    /**
+     * Creates a supplier of {@link Difficulty#DEFAULT} boards with a single solution, generated on a
+     * background thread of its own, keeping up to {@link #DEFAULT_CAPACITY} boards ready.
+     * @see SudokuBoard#withUniqueSolution()
+     */
+    public PuzzleSupplier() {
+        this(SudokuBoard::withUniqueSolution, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a supplier generating boards on a background thread of its own.
+     * The thread is a daemon, so it does not keep the application running, and is stopped by {@link #close()}.
+     * @param factory generates a new board each time it is called
+     * @param capacity the number of boards to keep ready
+     */
+    public PuzzleSupplier(Supplier<SudokuBoard> factory, int capacity) {
+        this(factory, capacity, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "puzzle-supplier");
+            thread.setDaemon(true);
+            // the generator should not take time away from the user interface
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * Creates a supplier generating boards on the given executor.
+     * The supplier runs at most one generation at a time; the executor is not shut down by {@link #close()}.
+     * @param factory generates a new board each time it is called
+     * @param capacity the number of boards to keep ready
+     * @param executor runs the generation
+     */
+    public PuzzleSupplier(Supplier<SudokuBoard> factory, int capacity, Executor executor) {
+        this(factory, capacity, executor, false);
+    }
+
+    private PuzzleSupplier(Supplier<SudokuBoard> factory, int capacity, Executor executor, boolean owned) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.factory = factory;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.ownExecutor = owned ? (ExecutorService) executor : null;
+        this.ready = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Starts generating boards until the queue is full, so that the first games do not wait for the generator.
+     * Nothing is generated before this call or the first request; calling it again has no effect.
+     * @throws IllegalStateException if the supplier has been closed
+     */
+    public synchronized void prefetch() {
+        if (closed) {
+            throw new IllegalStateException("The puzzle supplier is closed");
+        }
+        startRefill();
+    }
+
+    /**
+     * Takes a board from the queue, or waits for the next one generated if the queue is empty.
+     * Either way a new board is generated to take its place.
+     * @return a future completed with the board; it is already completed if a board was ready, and
+     * completes exceptionally if the generator fails
+     * @throws IllegalStateException if the supplier has been closed
+     */
+    public CompletableFuture<SudokuBoard> next() {
+        CompletableFuture<SudokuBoard> result;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The puzzle supplier is closed");
+            }
+            SudokuBoard board = ready.poll();
+            if (board != null) {
+                result = CompletableFuture.completedFuture(board);
+            } else {
+                result = new CompletableFuture<>();
+                waiting.add(result);
+            }
+            startRefill();
+        }
+        notifyListeners();
+        return result;
+    }
+
+    /**
+     * Takes a board from the queue without waiting.
+     * @return a ready board, or {@code null} if the queue is empty
+     * @throws IllegalStateException if the supplier has been closed
+     */
+    public SudokuBoard poll() {
+        SudokuBoard board;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The puzzle supplier is closed");
+            }
+            board = ready.poll();
+            startRefill();
+        }
+        if (board != null) {
+            notifyListeners();
+        }
+        return board;
+    }
+
+    /**
+     * Returns the number of boards ready to be handed over.
+     * @return the number of boards in the queue, at most the capacity
+     */
+    public synchronized int getReady() {
+        return ready.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Registers a listener of the queue. It is called on the thread that changed the queue.
+     * @param listener the listener to add
+     */
+    public void addProgressListener(ProgressListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addProgressListener(ProgressListener)}.
+     * @param listener the listener to remove
+     */
+    public void removeProgressListener(ProgressListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Stops generating boards and cancels the requests still waiting. A generation in progress is finished
+     * and its board discarded. The executor is shut down if the supplier created it.
+     */
+    @Override
+    public void close() {
+        CompletableFuture<?>[] cancelled;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            ready.clear();
+            cancelled = waiting.toArray(new CompletableFuture<?>[0]);
+            waiting.clear();
+        }
+        for (CompletableFuture<?> future : cancelled) {
+            future.cancel(false);
+        }
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Submits the generation task, unless it is already running or there is nothing to do.
+     * Must be called while holding the monitor of this supplier.
+     */
+    private void startRefill() {
+        if (refilling || !needsBoard()) {
+            return;
+        }
+        refilling = true;
+        try {
+            executor.execute(this::refill);
+        } catch (RuntimeException e) {
+            refilling = false;
+            throw e;
+        }
+    }
+
+    private boolean needsBoard() {
+        return !closed && (ready.size() < capacity || !waiting.isEmpty());
+    }
+
+    /**
+     * Generates boards until the queue is full and nobody is waiting. The generation itself runs without
+     * holding the monitor, so handing over ready boards never waits for the generator.
+     */
+    private void refill() {
+        while (true) {
+            synchronized (this) {
+                if (!needsBoard()) {
+                    refilling = false;
+                    return;
+                }
+            }
+            SudokuBoard board;
+            try {
+                board = factory.get();
+            } catch (RuntimeException | Error e) {
+                failWaiting(e);
+                throw e;
+            }
+            handOver(board);
+            notifyListeners();
+        }
+    }
+
+    /**
+     * Gives a new board to the oldest request waiting, or adds it to the queue.
+     */
+    private void handOver(SudokuBoard board) {
+        while (true) {
+            CompletableFuture<SudokuBoard> consumer;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                consumer = waiting.poll();
+                if (consumer == null) {
+                    ready.add(board);
+                    return;
+                }
+            }
+            // a request cancelled by its caller does not take the board
+            if (consumer.complete(board)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Completes the waiting requests with the failure of the generator and stops refilling;
+     * the next request tries again.
+     */
+    private void failWaiting(Throwable failure) {
+        CompletableFuture<?>[] failed;
+        synchronized (this) {
+            refilling = false;
+            failed = waiting.toArray(new CompletableFuture<?>[0]);
+            waiting.clear();
+        }
+        for (CompletableFuture<?> future : failed) {
+            future.completeExceptionally(failure);
+        }
+    }
+
+    private void notifyListeners() {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        int readyCount;
+        int waitingCount;
+        synchronized (this) {
+            readyCount = ready.size();
+            waitingCount = waiting.size();
+        }
+        for (ProgressListener listener : listeners) {
+            listener.progress(readyCount, waitingCount);
+        }
+    }
+}
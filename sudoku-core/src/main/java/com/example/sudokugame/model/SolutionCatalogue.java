@@ -0,0 +1,318 @@
+package com.example.sudokugame.model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Catalogue of every essentially different 6x6 sudoku solution.
+ * Two solutions are equivalent when one can be turned into the other by relabeling the digits,
+ * swapping the two rows of a band, reordering the three bands, reordering the columns of a stack
+ * and swapping the two stacks. These 720 * 3456 symmetries reduce the 28,200,960 valid grids to a
+ * few dozen classes, stored in the {@value #RESOURCE} resource as one canonical grid per class and
+ * the size of its class.
+ * <p>
+ * {@link #fill(SudokuGrid, RandomGenerator)} picks a class with probability proportional to its size
+ * and applies a random symmetry to its canonical grid, which yields every valid solution with the
+ * same probability in constant time, without any backtracking.
+ * <p>
+ * The resource is created by {@link #main(String[])}; if it is missing the catalogue is enumerated
+ * when first used, which takes about a second.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class SolutionCatalogue {
+
+    /** Name of the binary resource holding the catalogue, next to this class. */
+    public static final String RESOURCE = "solution-grids.bin";
+
+    private static final int MAGIC = 0x53444B43; // "SDKC"
+    private static final int VERSION = 1;
+    private static final int SIZE = SudokuGrid.SIZE;
+    private static final int CELLS = SudokuGrid.CELLS;
+    private static final int PERMUTATIONS = 720;
+    // rows 1 to 5 of a normalized grid, 10 bits each; row 0 is always 1 2 3 4 5 6
+    private static final int RANK_BITS = 10;
+    // the six orders of three elements, used for bands and for the columns of a stack
+    private static final int[][] ORDERS_OF_THREE = {
+            {0, 1, 2}, {0, 2, 1}, {1, 0, 2}, {1, 2, 0}, {2, 0, 1}, {2, 1, 0}
+    };
+
+    private final long[] canonicalGrids;
+    // cumulativeWeights[i] is the number of normalized grids in classes 0..i
+    private final int[] cumulativeWeights;
+
+    private SolutionCatalogue(long[] canonicalGrids, int[] weights) {
+        this.canonicalGrids = canonicalGrids;
+        this.cumulativeWeights = new int[weights.length];
+        int total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Returns the shared catalogue, loading it on first use.
+     * @return the catalogue of solution classes
+     */
+    public static SolutionCatalogue getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Lazily loads the shared catalogue.
+     */
+    private static final class Holder {
+        private static final SolutionCatalogue INSTANCE = loadOrEnumerate();
+    }
+
+    private static SolutionCatalogue loadOrEnumerate() {
+        try (InputStream in = SolutionCatalogue.class.getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                return read(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + RESOURCE, e);
+        }
+        return enumerate();
+    }
+
+    /**
+     * Returns the number of essentially different solutions.
+     * @return the number of classes in the catalogue
+     */
+    public int size() {
+        return canonicalGrids.length;
+    }
+
+    /**
+     * Returns how many valid solutions the catalogue represents.
+     * @return the number of valid 6x6 grids
+     */
+    public long solutionCount() {
+        return (long) cumulativeWeights[cumulativeWeights.length - 1] * PERMUTATIONS;
+    }
+
+    /**
+     * Writes the canonical grid of a class into a grid.
+     * @param index the class, from 0 to {@code size() - 1}
+     * @param grid the grid to overwrite
+     */
+    public void canonicalGrid(int index, SudokuGrid grid) {
+        decode(canonicalGrids[index], grid);
+    }
+
+    /**
+     * Unpacks a normalized grid written by {@link #encode(byte[])}.
+     */
+    private static void decode(long code, SudokuGrid grid) {
+        grid.clear();
+        for (int row = 0; row < SIZE; row++) {
+            int rank = row == 0 ? 0 : (int) (code >>> (RANK_BITS * (SIZE - 1 - row))) & ((1 << RANK_BITS) - 1);
+            BoardCodec.unrankRow(rank, grid, row);
+        }
+    }
+
+    /**
+     * Fills a grid with a uniformly random valid solution.
+     * @param grid the grid to overwrite
+     * @param random the source of randomness
+     */
+    public void fill(SudokuGrid grid, RandomGenerator random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, pick + 1);
+        if (index < 0) index = -index - 1;
+
+        canonicalGrid(index, grid);
+        byte[] source = new byte[CELLS];
+        grid.copyCellsTo(source);
+
+        // random row order: bands, then the two rows of each band
+        int[] bands = ORDERS_OF_THREE[random.nextInt(6)];
+        int rowSwaps = random.nextInt(8);
+        // random column order: stacks, then the three columns of each stack
+        int stackSwap = random.nextInt(2);
+        int[] stack0 = ORDERS_OF_THREE[random.nextInt(6)];
+        int[] stack1 = ORDERS_OF_THREE[random.nextInt(6)];
+        // random relabeling of the digits
+        byte[] labels = {0, 1, 2, 3, 4, 5, 6};
+        for (int i = SIZE; i > 1; i--) {
+            int j = 1 + random.nextInt(i);
+            byte swap = labels[i];
+            labels[i] = labels[j];
+            labels[j] = swap;
+        }
+
+        byte[] target = new byte[CELLS];
+        for (int row = 0; row < SIZE; row++) {
+            int band = row / 2;
+            int sourceRow = bands[band] * 2 + ((row % 2) ^ ((rowSwaps >> band) & 1));
+            for (int col = 0; col < SIZE; col++) {
+                int stack = col / 3;
+                int[] order = stack == 0 ? stack0 : stack1;
+                int sourceCol = (stack ^ stackSwap) * 3 + order[col % 3];
+                target[row * SIZE + col] = labels[source[sourceRow * SIZE + sourceCol]];
+            }
+        }
+        grid.load(target);
+    }
+
+    /**
+     * Enumerates every valid solution and groups them into classes of equivalent solutions.
+     * The solutions are first normalized so that their first row reads 1 2 3 4 5 6, which leaves
+     * one solution per relabeling class; the row and column symmetries then group those.
+     * @return a catalogue with the smallest normalized grid of every class
+     */
+    public static SolutionCatalogue enumerate() {
+        SudokuGrid firstRow = new SudokuGrid();
+        for (int col = 0; col < SIZE; col++) {
+            firstRow.set(0, col, col + 1);
+        }
+        long[] codes = DlxSolver.solutions(firstRow).mapToLong(SolutionCatalogue::encode).sorted().toArray();
+        boolean[] visited = new boolean[codes.length];
+
+        List<Long> canonical = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        SudokuGrid decoded = new SudokuGrid();
+        byte[] grid = new byte[CELLS];
+        byte[] transformed = new byte[CELLS];
+        for (int i = 0; i < codes.length; i++) {
+            if (visited[i]) continue;
+            decode(codes[i], decoded);
+            decoded.copyCellsTo(grid);
+            // codes are visited in increasing order, so the first one of a class is its smallest
+            canonical.add(codes[i]);
+            int weight = 0;
+            for (int transform = 0; transform < 3456; transform++) {
+                applyTransform(grid, transformed, transform);
+                int position = Arrays.binarySearch(codes, encode(transformed));
+                if (!visited[position]) {
+                    visited[position] = true;
+                    weight++;
+                }
+            }
+            weights.add(weight);
+        }
+
+        long[] canonicalGrids = new long[canonical.size()];
+        int[] weightArray = new int[weights.size()];
+        for (int i = 0; i < canonicalGrids.length; i++) {
+            canonicalGrids[i] = canonical.get(i);
+            weightArray[i] = weights.get(i);
+        }
+        return new SolutionCatalogue(canonicalGrids, weightArray);
+    }
+
+    /**
+     * Applies one of the 3456 row and column symmetries to a grid.
+     * @param transform bits 0-2 swap rows in bands, then band order (6), stack swap (2) and the
+     *                  column orders of both stacks (6 each)
+     */
+    private static void applyTransform(byte[] source, byte[] target, int transform) {
+        int rowSwaps = transform & 7;
+        transform >>= 3;
+        int[] bands = ORDERS_OF_THREE[transform % 6];
+        transform /= 6;
+        int stackSwap = transform % 2;
+        transform /= 2;
+        int[] stack0 = ORDERS_OF_THREE[transform % 6];
+        int[] stack1 = ORDERS_OF_THREE[transform / 6];
+        for (int row = 0; row < SIZE; row++) {
+            int band = row / 2;
+            int sourceRow = bands[band] * 2 + ((row % 2) ^ ((rowSwaps >> band) & 1));
+            for (int col = 0; col < SIZE; col++) {
+                int stack = col / 3;
+                int[] order = stack == 0 ? stack0 : stack1;
+                int sourceCol = (stack ^ stackSwap) * 3 + order[col % 3];
+                target[row * SIZE + col] = source[sourceRow * SIZE + sourceCol];
+            }
+        }
+    }
+
+    /**
+     * Relabels a grid so that its first row reads 1 2 3 4 5 6 and packs rows 1 to 5 as
+     * permutation ranks, which keeps the lexicographic order of the normalized grids.
+     */
+    private static long encode(byte[] grid) {
+        byte[] relabel = new byte[SIZE + 1];
+        for (int col = 0; col < SIZE; col++) {
+            relabel[grid[col]] = (byte) (col + 1);
+        }
+        long code = 0;
+        for (int row = 1; row < SIZE; row++) {
+            int rank = 0;
+            int used = 0;
+            for (int col = 0; col < SIZE; col++) {
+                int digit = relabel[grid[row * SIZE + col]] - 1;
+                int smallerUnused = Integer.bitCount(~used & ((1 << digit) - 1));
+                rank = rank * (SIZE - col) + smallerUnused;
+                used |= 1 << digit;
+            }
+            code = (code << RANK_BITS) | rank;
+        }
+        return code;
+    }
+
+    /**
+     * Reads a catalogue in the format written by {@link #write(OutputStream)}.
+     * @param in the stream to read from
+     * @return the catalogue
+     * @throws IOException if the stream cannot be read or is not a catalogue
+     */
+    public static SolutionCatalogue read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readUnsignedByte() != VERSION) {
+            throw new IOException("Not a solution catalogue");
+        }
+        int count = data.readInt();
+        long[] canonicalGrids = new long[count];
+        int[] weights = new int[count];
+        for (int i = 0; i < count; i++) {
+            canonicalGrids[i] = data.readLong();
+            weights[i] = data.readInt();
+        }
+        return new SolutionCatalogue(canonicalGrids, weights);
+    }
+
+    /**
+     * Writes the catalogue: a magic number, a version byte, the number of classes and then, for
+     * every class, its canonical grid as 8 bytes and its weight as 4 bytes.
+     * @param out the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(canonicalGrids.length);
+        for (int i = 0; i < canonicalGrids.length; i++) {
+            data.writeLong(canonicalGrids[i]);
+            data.writeInt(cumulativeWeights[i] - (i == 0 ? 0 : cumulativeWeights[i - 1]));
+        }
+        data.flush();
+    }
+
+    /**
+     * Enumerates the catalogue and writes it to a file, to refresh the bundled resource.
+     * @param args the path of the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        SolutionCatalogue catalogue = enumerate();
+        try (OutputStream out = Files.newOutputStream(Path.of(args[0]))) {
+            catalogue.write(out);
+        }
+        System.out.println(catalogue.size() + " classes, " + catalogue.solutionCount() + " solutions");
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.sudokugame.model;
+
+/**
+ * One deduction found by the {@link HintEngine}: either a number placed in a cell, or candidates removed
+ * from some cells. Every step carries the technique that found it and an explanation for the player.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class SolvingStep {
+
+    private final Technique technique;
+    private final int cell;
+    private final int value;
+    private final long eliminatedCells;
+    private final int eliminatedDigits;
+    private final String explanation;
+
+    SolvingStep(Technique technique, int cell, int value, long eliminatedCells, int eliminatedDigits, String explanation) {
+        this.technique = technique;
+        this.cell = cell;
+        this.value = value;
+        this.eliminatedCells = eliminatedCells;
+        this.eliminatedDigits = eliminatedDigits;
+        this.explanation = explanation;
+    }
+
+    public Technique getTechnique() {
+        return technique;
+    }
+
+    /**
+     * Checks if the step places a number; otherwise it only removes candidates.
+     * @return {@code true} if the step fills a cell
+     */
+    public boolean isPlacement() {
+        return value != 0;
+    }
+
+    /**
+     * Returns the row of the cell filled by a placement.
+     * @return the row index, or -1 for an elimination
+     */
+    public int getRow() {
+        return isPlacement() ? cell / SudokuGrid.SIZE : -1;
+    }
+
+    /**
+     * Returns the column of the cell filled by a placement.
+     * @return the column index, or -1 for an elimination
+     */
+    public int getCol() {
+        return isPlacement() ? cell % SudokuGrid.SIZE : -1;
+    }
+
+    /**
+     * Returns the number placed by a placement.
+     * @return the number, or 0 for an elimination
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the cells that lose candidates in an elimination.
+     * @return a mask with bit {@code row * 6 + col} set for every affected cell
+     */
+    public long getEliminatedCells() {
+        return eliminatedCells;
+    }
+
+    /**
+     * Returns the candidates removed from the affected cells.
+     * @return a bitmask where bit {@code d} is set if digit {@code d} is removed
+     */
+    public int getEliminatedDigits() {
+        return eliminatedDigits;
+    }
+
+    /**
+     * Returns why the step is correct, in Spanish, to be shown to the player.
+     * @return the explanation
+     */
+    public String getExplanation() {
+        return explanation;
+    }
+
+    @Override
+    public String toString() {
+        return technique + ": " + explanation;
+    }
+}
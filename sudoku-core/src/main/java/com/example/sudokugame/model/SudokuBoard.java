@@ -0,0 +1,892 @@
+package com.example.sudokugame.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * this class represent a 6x6 sudoku board with 6 blocks of two rows and three columns
+ * this class provides methods to generate a complete valid sudoku solution, generate a playabe board with some cells removed,
+ * and validate user input based on sudoku rules.
+ * @author Isabela bermúdez and Julieta Arteta
+ *  @version 1.0
+ */
+
+public class SudokuBoard {
+
+    private static final int SIZE = SudokuGrid.SIZE;
+    private static final System.Logger LOGGER = System.getLogger(SudokuBoard.class.getName());
+
+    private final SudokuGrid board = new SudokuGrid();
+    private final SudokuGrid solution = new SudokuGrid();
+    private MoveHistory history = new MoveHistory();
+    // the full timeline of the game, kept only once recordMoves() is called
+    private MoveLog moveLog;
+    // whether the move log starts at the initial puzzle, so that it replays the game from its seed
+    private boolean moveLogFromStart;
+    // the cells of every named checkpoint, created on the first checkpoint
+    private Map<String, byte[]> checkpoints;
+    // running counts, updated on every change so that win detection does not scan the board
+    private int emptyCells;
+    private int wrongCells;
+    private final List<CompletionListener> completionListeners = new ArrayList<>();
+    // digits crossed out by the player in each cell, as bitmasks
+    private final int[] eliminated = new int[SudokuGrid.CELLS];
+    private HintEngine hintEngine;
+    private final long seed;
+    // the difficulty given to fromSeed, or null if the seed alone does not recreate the board
+    private Difficulty difficulty;
+    private final RandomGenerator random;
+    private ValidationTrace trace;
+    // bit (row * 6 + col) is set for the cells filled in by the generator
+    private long givens;
+
+    private int attemptsLeft = 3; // Number of attempts left for the player
+
+    /**
+     * SudokuBoard class constructor. Generates a board from a random seed.
+     * @see #getSeed()
+     */
+    public SudokuBoard() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a board whose random choices are all derived from a seed.
+     * Two boards built from the same seed are identical, so the seed is enough to recreate a board.
+     * @param seed the seed of the board
+     */
+    public SudokuBoard(long seed) {
+        this(seed, BoardGenerator.Mode.TWO_PER_REGION);
+    }
+
+    /**
+     * Creates a board whose random choices are all derived from a seed, clearing cells with the given mode.
+     * @param seed the seed of the board
+     * @param mode how the playable board is derived from the solution
+     */
+    public SudokuBoard(long seed, BoardGenerator.Mode mode) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        generateBoard(mode); // Genera el tablero de Sudoku
+    }
+
+    /**
+     * Creates a board that plays a previously generated puzzle.
+     * The board takes the seed of the puzzle.
+     * @param puzzle the puzzle to play
+     */
+    public SudokuBoard(Puzzle puzzle) {
+        this.seed = puzzle.getSeed();
+        this.random = new SplittableRandom(seed);
+        puzzle.copySolutionTo(solution);
+        puzzle.copyGivensTo(board);
+        recordGivens();
+    }
+
+    /**
+     * Creates a board that plays a puzzle of a puzzle bank.
+     * The board takes the seed stored with the puzzle.
+     * @param bank the bank holding the puzzle
+     * @param index the puzzle, from 0 to {@code bank.size() - 1}
+     */
+    public SudokuBoard(PuzzleBank bank, long index) {
+        this.seed = bank.getSeed(index);
+        this.random = new SplittableRandom(seed);
+        bank.copySolutionTo(index, solution);
+        bank.copyGivensTo(index, board);
+        recordGivens();
+    }
+
+    /**
+     * Creates a board from a decoded game in progress.
+     * @see BoardCodec#decodeBoard(java.nio.ByteBuffer)
+     */
+    SudokuBoard(SudokuGrid cells, SudokuGrid solution, long givens, long seed, int attemptsLeft) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.board.copyFrom(cells);
+        this.solution.copyFrom(solution);
+        this.givens = givens;
+        this.attemptsLeft = attemptsLeft;
+        countCells();
+    }
+
+    /**
+     * Creates the board for the puzzle of the given seed and difficulty.
+     * This is the same puzzle that {@link Puzzle#generate(long, Difficulty)} and {@link PuzzleFactory} produce
+     * for that seed, so a puzzle can be shared as just its seed and difficulty.
+     * @param seed the seed of the puzzle
+     * @param difficulty the difficulty of the puzzle
+     * @return a new board with a single solution
+     */
+    public static SudokuBoard fromSeed(long seed, Difficulty difficulty) {
+        SudokuBoard board = new SudokuBoard(Puzzle.generate(seed, difficulty));
+        board.difficulty = difficulty;
+        return board;
+    }
+
+    /**
+     * Replays a recorded game: creates the board of a seed and difficulty and applies the changes of
+     * its move log in order.
+     * Only games of boards created with {@link #fromSeed(long, Difficulty)} can be replayed, since the other
+     * constructors do not derive the puzzle from the seed and difficulty alone; such a game is recorded as
+     * {@link #getSeed()}, {@link #getDifficulty()} and {@code getMoveLog().toArray()}.
+     * @param seed the seed of the puzzle
+     * @param difficulty the difficulty of the puzzle
+     * @param moves the packed changes, as returned by {@link MoveLog#toArray()}
+     * @return the board as it was at the end of the recorded game
+     * @throws IllegalArgumentException if a change does not start from the value its cell holds, which means
+     * that the moves were recorded on another puzzle
+     * @see #fromSeed(long, Difficulty)
+     */
+    public static SudokuBoard replay(long seed, Difficulty difficulty, int[] moves) {
+        SudokuBoard board = fromSeed(seed, difficulty);
+        board.recordMoves();
+        for (int i = 0; i < moves.length; i++) {
+            int cell = MoveHistory.cell(moves[i]);
+            if (cell >= SudokuGrid.CELLS || board.isGiven(cell / SIZE, cell % SIZE)
+                    || board.board.get(cell) != MoveHistory.oldValue(moves[i])) {
+                throw new IllegalArgumentException("Move " + i + " was not recorded on the puzzle of seed " + seed
+                        + " at " + difficulty);
+            }
+            board.setCell(cell / SIZE, cell % SIZE, MoveHistory.newValue(moves[i]));
+        }
+        return board;
+    }
+
+    /**
+     * Replays the game of this board on a new board, from its seed, its difficulty and its move log.
+     * @return a new board in the current state of this one, recording its moves
+     * @throws IllegalStateException if this board was not created with {@link #fromSeed(long, Difficulty)}, or
+     * did not record its moves from the start of the game
+     * @see #replay(long, Difficulty, int[])
+     * @see #recordMoves()
+     */
+    public SudokuBoard replay() {
+        if (difficulty == null) {
+            throw new IllegalStateException("Only boards created from a seed and difficulty can be replayed");
+        }
+        if (moveLog == null || !moveLogFromStart) {
+            throw new IllegalStateException("The board did not record its moves from the start of the game");
+        }
+        return replay(seed, difficulty, moveLog.toArray());
+    }
+
+    /**
+     * Creates a puzzle of the {@link Difficulty#DEFAULT} level with a single solution, so that
+     * {@link #isCorrect(int, int, int)} never rejects a valid answer.
+     * @return a new board from a random seed
+     * @see #withUniqueSolution(Difficulty)
+     */
+    public static SudokuBoard withUniqueSolution() {
+        return withUniqueSolution(Difficulty.DEFAULT);
+    }
+
+    /**
+     * Creates a puzzle of the given difficulty with a single solution, so that
+     * {@link #isCorrect(int, int, int)} never rejects a valid answer.
+     * @param difficulty the difficulty of the puzzle
+     * @return a new board from a random seed
+     */
+    public static SudokuBoard withUniqueSolution(Difficulty difficulty) {
+        return fromSeed(ThreadLocalRandom.current().nextLong(), difficulty);
+    }
+
+    /**
+     * Returns the seed the board was generated from.
+     * @return the seed of the board
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the difficulty the board was created with by {@link #fromSeed(long, Difficulty)}.
+     * @return the difficulty, or {@code null} if the board was created otherwise, for example from a
+     * {@link Puzzle} or a saved game, and cannot be recreated from its seed
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Generates the initial sudoku board
+     * Generates a complete solution, copies it to the board and then clears the cells
+     * as requested by the generation mode.
+     * @param mode how to choose the cells to clear
+     * @see BoardGenerator
+     */
+    private void generateBoard(BoardGenerator.Mode mode) {
+        long start = System.nanoTime();
+        BoardGenerator generator = new BoardGenerator(random);
+
+        // 1. Initializes empty solution
+        solution.clear();
+
+        // 2. Generates complete solution
+        if (!generator.generateCompleteSolution(solution)) {
+            LOGGER.log(System.Logger.Level.ERROR, () -> "Could not generate a complete solution for seed " + seed);
+            return;
+        }
+
+        // 3. Copy solution to the game board
+        board.copyFrom(solution);
+
+        // 4. clears cells, by default leaving only 2 numbers per 2x3 region
+        generator.clearCells(board, mode);
+        recordGivens();
+        GameMetrics.getInstance().recordGeneration(System.nanoTime() - start, generator.getBacktracks());
+    }
+
+    /**
+     * Remembers which cells of the board are filled in, as the initial numbers of the puzzle.
+     */
+    private void recordGivens() {
+        givens = 0;
+        for (int i = 0; i < SudokuGrid.CELLS; i++) {
+            if (board.get(i) != 0) givens |= 1L << i;
+        }
+        countCells();
+    }
+
+    /**
+     * Counts the empty cells and the cells that differ from the solution.
+     */
+    private void countCells() {
+        emptyCells = 0;
+        wrongCells = 0;
+        for (int i = 0; i < SudokuGrid.CELLS; i++) {
+            if (board.get(i) == 0) {
+                emptyCells++;
+            } else if (board.get(i) != solution.get(i)) {
+                wrongCells++;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a candidate number can be placed in a specific cell of the board.
+     * A number is considered valid if it is not already present in the same row, the same column,
+     * or within the 2x3 block that contains the cell.
+     * The check is a constant time mask test that neither logs nor allocates. If a {@link ValidationTrace}
+     * has been installed, the result is also reported to it.
+     *
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @param candidate the number to be placed in the cell
+     * @return {@code true} if the number is valid in that position; {@code false} if it is already present
+     * in the same row, column, or block.
+     * @see #setValidationTrace(ValidationTrace)
+     */
+    public boolean isValid(int row, int col, int candidate) {
+        boolean valid = board.canPlace(row, col, candidate);
+        if (trace != null) {
+            traceValidation(row, col, candidate, valid);
+        }
+        return valid;
+    }
+
+    /**
+     * Installs a trace that receives the result of every call to {@link #isValid(int, int, int)} on this board.
+     * @param trace the trace to report to, or {@code null} to turn tracing off
+     */
+    public void setValidationTrace(ValidationTrace trace) {
+        this.trace = trace;
+    }
+
+    /**
+     * Locates the cell responsible for a failed validation and reports it to the installed trace.
+     * This only runs while tracing is on, so the normal validation path never scans the units.
+     * @param row the row index of the checked cell
+     * @param col the column index of the checked cell
+     * @param candidate the number that was checked
+     * @param valid the result of the validation
+     */
+    private void traceValidation(int row, int col, int candidate, boolean valid) {
+        if (valid) {
+            trace.onValidation(row, col, candidate, null, -1, -1);
+            return;
+        }
+        Geometry geometry = SudokuGrid.GEOMETRY;
+        ValidationTrace.Unit[] kinds = ValidationTrace.Unit.values();
+        int cell = row * SIZE + col;
+        for (int kind = 0; kind < kinds.length; kind++) {
+            int unit = geometry.unitOf(cell, kind);
+            for (int i = 0; i < SIZE; i++) {
+                int other = geometry.unitCell(unit, i);
+                if (board.get(other) == candidate) {
+                    trace.onValidation(row, col, candidate, kinds[kind], geometry.row(other), geometry.col(other));
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the candidate number is correct in the solution.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @param candidate the number to be checked
+     * @return {@code true} if the candidate is correct; {@code false} otherwise
+     */
+
+    public boolean isCorrect(int row, int col, int candidate) {
+        return solution.get(row, col) == candidate;
+    }
+
+    /**
+     * Marks the current state of the board as an undo point.
+     * Every change made to the cells is recorded in the move history; the next {@link #undo()} takes back
+     * all the changes made since this call, restoring the board to its current state.
+     */
+
+    public void saveStateForUndo() {
+        history.beginStep();
+    }
+
+    /**
+     * Undoes the last step by taking back, in reverse order, the changes made since the last undo point.
+     * Only the changed cells are touched, so undoing does not copy the board.
+     */
+
+    public void undo() {
+        int move;
+        while ((move = history.undo()) != MoveHistory.NONE) {
+            change(MoveHistory.cell(move), MoveHistory.oldValue(move));
+            if (MoveHistory.startsStep(move)) break;
+        }
+    }
+
+    /**
+     * Applies again the last step taken back by {@link #undo()}.
+     * Any change made after the undo discards the steps that could be redone.
+     */
+
+    public void redo() {
+        int move = history.redo();
+        while (move != MoveHistory.NONE) {
+            change(MoveHistory.cell(move), MoveHistory.newValue(move));
+            int next = history.peekRedo();
+            move = next == MoveHistory.NONE || MoveHistory.startsStep(next) ? MoveHistory.NONE : history.redo();
+        }
+    }
+
+    /**
+     * Names the current state of the board so that it can be restored later.
+     * The checkpoint keeps a copy of the cells; when the board records its moves, it also marks the position
+     * in the move log.
+     * @param name the name of the checkpoint; an existing checkpoint with the same name is replaced
+     */
+    public void saveCheckpoint(String name) {
+        if (checkpoints == null) {
+            checkpoints = new LinkedHashMap<>();
+        }
+        byte[] cells = new byte[SudokuGrid.CELLS];
+        board.copyCellsTo(cells);
+        checkpoints.put(name, cells);
+        if (moveLog != null) {
+            moveLog.checkpoint(name);
+        }
+    }
+
+    /**
+     * Returns the board to the state of a checkpoint.
+     * The restore is itself a single undoable step, so the moves made since the checkpoint can be brought
+     * back with {@link #undo()}.
+     * @param name the name of the checkpoint
+     * @return {@code true} if the checkpoint exists
+     */
+    public boolean restoreCheckpoint(String name) {
+        byte[] cells = checkpoints == null ? null : checkpoints.get(name);
+        if (cells == null) {
+            return false;
+        }
+        restore(cells);
+        return true;
+    }
+
+    /**
+     * Returns the board to the state it had after a number of changes of its move log, as a single
+     * undoable step.
+     * @param position the position in the move log, from 0 (where the log started) to
+     * {@code getMoveLog().size()}
+     * @throws IllegalStateException if the board does not record its moves
+     */
+    public void jumpTo(int position) {
+        if (moveLog == null) {
+            throw new IllegalStateException("The board does not record its moves");
+        }
+        SudokuGrid target = new SudokuGrid();
+        moveLog.stateAt(position, target);
+        byte[] cells = new byte[SudokuGrid.CELLS];
+        target.copyCellsTo(cells);
+        restore(cells);
+    }
+
+    /**
+     * Changes the cells that differ from the given ones, as a single undoable step.
+     */
+    private void restore(byte[] cells) {
+        saveStateForUndo();
+        for (int i = 0; i < SudokuGrid.CELLS; i++) {
+            if (board.get(i) != cells[i]) {
+                setCell(i / SIZE, i % SIZE, cells[i]);
+            }
+        }
+    }
+
+    /**
+     * Starts recording every change of the board in a {@link MoveLog}, for analytics or to replay the game.
+     * Undos and redos are recorded as changes too, so the log is never truncated and grows with the length of
+     * the game, unlike the bounded undo history; boards only keep it when asked to. Calling this again
+     * returns the same log.
+     * @return the move log, starting at the current cells
+     */
+    public MoveLog recordMoves() {
+        if (moveLog == null) {
+            moveLog = new MoveLog(board);
+            moveLogFromStart = true;
+            for (int i = 0; i < SudokuGrid.CELLS; i++) {
+                if ((givens & (1L << i)) == 0 && board.get(i) != 0) {
+                    moveLogFromStart = false;
+                    break;
+                }
+            }
+        }
+        return moveLog;
+    }
+
+    /**
+     * Returns every change made to the board since it started recording its moves, including undone ones.
+     * @return the move log of the game, or {@code null} if {@link #recordMoves()} has not been called
+     */
+    public MoveLog getMoveLog() {
+        return moveLog;
+    }
+
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    /**
+     * Returns how many cell changes can be undone.
+     * @return the number of changes in the undo history
+     */
+    int getUndoDepth() {
+        return history.getUndoCount();
+    }
+
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    /**
+     * Changes how many cell changes the undo history keeps, forgetting the current history.
+     * Long sessions keep at most this many changes in memory, unless the board also records its moves
+     * with {@link #recordMoves()}.
+     * @param depth the maximum number of changes to keep
+     * @throws IllegalArgumentException if the depth is not positive
+     */
+    public void setUndoDepth(int depth) {
+        history = new MoveHistory(depth);
+    }
+
+    /**
+     * Returns the current Sudoku board.
+     * @return a read-only list of lists of integers representing the Sudoku board.
+     */
+    public List<List<Integer>> getBoard() {
+        return board.asRows();
+    }
+
+    /**
+     * Returns the value of a cell of the current board.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return the number in the cell, or 0 if it is empty
+     */
+    public int getCell(int row, int col) {
+        return board.get(row, col);
+    }
+
+    /**
+     * Returns the value of a cell of the current board given its row-major index, as used by the
+     * peer tables of {@link SudokuGrid#GEOMETRY}.
+     * @param cell the cell index, {@code row * 6 + col}
+     * @return the number in the cell, or 0 if it is empty
+     */
+    public int getCell(int cell) {
+        return board.get(cell);
+    }
+
+    /**
+     * Stores a number in a cell of the current board.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @param value the number to store, from 1 to 6, or 0 to empty the cell
+     */
+    public void setCell(int row, int col, int value) {
+        int oldValue = board.get(row, col);
+        if (oldValue != value) {
+            history.record(row * SIZE + col, oldValue, value);
+            change(row * SIZE + col, value);
+        }
+    }
+
+    /**
+     * Changes a cell and appends the change to the move log.
+     */
+    private void change(int cell, int value) {
+        int oldValue = board.get(cell);
+        int expected = solution.get(cell);
+        if (moveLog != null) {
+            moveLog.append(cell, oldValue, value);
+        }
+        board.set(cell / SIZE, cell % SIZE, value);
+
+        if (oldValue == 0) emptyCells--;
+        else if (oldValue != expected) wrongCells--;
+        if (value == 0) emptyCells++;
+        else if (value != expected) wrongCells++;
+
+        if (value == expected && isSolved()) {
+            for (CompletionListener listener : completionListeners) {
+                listener.onCompleted(this);
+            }
+        }
+    }
+
+    /**
+     * Returns the digits that the sudoku rules still allow in a cell.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return a bitmask where bit {@code d} is set if digit {@code d} is allowed, or 0 if the cell is filled
+     */
+    public int getLegalDigits(int row, int col) {
+        return board.candidates(row, col);
+    }
+
+    /**
+     * Returns the pencil marks of a cell: the digits allowed by the rules that the player has not crossed out.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return a bitmask where bit {@code d} is set if digit {@code d} is a candidate, or 0 if the cell is filled
+     */
+    public int getCandidates(int row, int col) {
+        return board.candidates(row, col) & ~eliminated[row * SIZE + col];
+    }
+
+    /**
+     * Writes the pencil marks of every cell, for example to draw them on every frame.
+     * @param candidates an array of at least 36 ints that receives the masks in row-major order
+     * @see #getCandidates(int, int)
+     */
+    public void copyCandidatesTo(int[] candidates) {
+        for (int row = 0, i = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++, i++) {
+                candidates[i] = board.candidates(row, col) & ~eliminated[i];
+            }
+        }
+    }
+
+    /**
+     * Crosses out or restores a pencil mark of a cell.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @param digit the digit, from 1 to 6
+     * @param eliminate {@code true} to cross the digit out, {@code false} to restore it
+     */
+    public void setCandidateEliminated(int row, int col, int digit, boolean eliminate) {
+        if (eliminate) {
+            eliminated[row * SIZE + col] |= 1 << digit;
+        } else {
+            eliminated[row * SIZE + col] &= ~(1 << digit);
+        }
+    }
+
+    /**
+     * Restores every pencil mark crossed out by the player.
+     */
+    public void clearEliminatedCandidates() {
+        Arrays.fill(eliminated, 0);
+    }
+
+    /**
+     * Checks if a cell was filled in when the board was generated.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return {@code true} if the cell is one of the initial numbers of the puzzle
+     */
+    public boolean isGiven(int row, int col) {
+        return (givens & (1L << (row * SIZE + col))) != 0;
+    }
+
+    SudokuGrid cells() {
+        return board;
+    }
+
+    SudokuGrid solution() {
+        return solution;
+    }
+
+    long givens() {
+        return givens;
+    }
+
+    /**
+     * Checks if the board is complete and every number matches the solution.
+     * @return {@code true} if the puzzle has been solved; {@code false} otherwise
+     */
+    public boolean isSolved() {
+        return emptyCells == 0 && wrongCells == 0;
+    }
+
+    /**
+     * Returns how many cells of the board are empty.
+     * @return the number of empty cells
+     */
+    public int getEmptyCellCount() {
+        return emptyCells;
+    }
+
+    /**
+     * Returns how many filled cells hold a number different from the solution.
+     * @return the number of wrong cells
+     */
+    public int getWrongCellCount() {
+        return wrongCells;
+    }
+
+    /**
+     * Registers a listener that is notified when the board becomes solved.
+     * @param listener the listener to add
+     */
+    public void addCompletionListener(CompletionListener listener) {
+        completionListeners.add(listener);
+    }
+
+    /**
+     * Stops notifying a listener.
+     * @param listener the listener to remove
+     */
+    public void removeCompletionListener(CompletionListener listener) {
+        completionListeners.remove(listener);
+    }
+
+    /**
+     * Returns the solution of the Sudoku board.
+     * @return a list of lists of integers representing the solution.
+     */
+
+    public int getAttemptsLeft() {
+        return attemptsLeft;
+    }
+
+    public void decreaseAttempts() {
+        attemptsLeft--;
+    }
+
+    /**
+     * Checks if the game is over, either because the player has run out of attempts
+     * or because the board is complete.
+     * @return {@code true} if the game is over; {@code false} otherwise
+     */
+
+    public boolean isGameOver() {
+        return attemptsLeft <= 0 || isBoardComplete();
+    }
+
+    /**
+     * Checks if the Sudoku board is complete, meaning all cells are filled with numbers.
+     * @return {@code true} if the board is complete; {@code false} otherwise
+     */
+
+    private boolean isBoardComplete() {
+        return emptyCells == 0;
+    }
+    /**
+     * Finds the cheapest logical step that applies to the current board: a number that can be placed, or
+     * candidates that can be removed, together with the technique used and an explanation.
+     * The candidates are those allowed by the rules; the pencil marks crossed out by the player are ignored.
+     * @return the step, or {@code null} if the board is complete, contradicts itself, or needs a technique
+     *         the {@link HintEngine} does not know
+     */
+    public SolvingStep getLogicalStep() {
+        int[] candidates = new int[SudokuGrid.CELLS];
+        HintEngine.initCandidates(board, candidates);
+        return hintEngine().findStep(board, candidates);
+    }
+
+    /**
+     * Provides a hint for the cell that is easiest to deduce by logic, with an explanation of the deduction.
+     * If no cell can be deduced, because a number on the board is wrong or the puzzle needs a harder technique,
+     * the hint is the first empty cell with its value from the solution.
+     * @return a Hint object with information about an empty cell and its correct value,
+     *         or null if no empty cells are found
+     */
+    public Hint getHint() {
+        if (wrongCells == 0) {
+            SolvingStep step = hintEngine().nextPlacement(board);
+            if (step != null && solution.get(step.getRow(), step.getCol()) == step.getValue()) {
+                return new Hint(step.getRow(), step.getCol(), step.getValue(), step.getTechnique(), step.getExplanation());
+            }
+        }
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                if (board.get(row, col) == 0) {
+                    // Get the correct value from the solution
+                    int correct = solution.get(row, col);
+
+                    // Verify that the value is valid (between 1 and 6)
+
+                    if (correct >= 1 && correct <= SIZE) {
+                        // Return the hint
+                        Hint hint = new Hint(row, col, correct);
+                        LOGGER.log(System.Logger.Level.DEBUG, () -> "Hint from the solution for the first empty cell ("
+                                + hint.row + ", " + hint.col + "): " + hint.value);
+                        return hint;
+                    } else {
+                        int wrongRow = row;
+                        int wrongCol = col;
+                        LOGGER.log(System.Logger.Level.WARNING, () -> "The solution has no valid number in cell ("
+                                + wrongRow + ", " + wrongCol + ")");
+                    }
+                }
+            }
+        }
+        LOGGER.log(System.Logger.Level.DEBUG, "No empty cell left for a hint");
+        return null;
+    }
+
+    /**
+     * Provides a hint for a specific cell.
+     * @param targetRow row of the cell for which to provide a hint
+     * @param targetCol column of the cell for which to provide a hint
+     * @return a Hint object with information about the correct value for the cell,
+     *         or null if the cell is already filled or no hint is available
+     */
+    public Hint getHintForCell(int targetRow, int targetCol) {
+        // Check if the selected cell is empty
+        if (targetRow >= 0 && targetRow < SIZE && targetCol >= 0 && targetCol < SIZE) {
+            // Check if the cell is empty
+            if (board.get(targetRow, targetCol) == 0) {
+                int correctValue = solution.get(targetRow, targetCol);
+                // Check if the correct value is valid (between 1 and 6)
+                if (correctValue >= 1 && correctValue <= SIZE) {
+                    // Return the hint
+                    LOGGER.log(System.Logger.Level.DEBUG, () -> "Hint from the solution for the requested cell ("
+                            + targetRow + ", " + targetCol + "): " + correctValue);
+                    return new Hint(targetRow, targetCol, correctValue);
+                } else {
+                    LOGGER.log(System.Logger.Level.WARNING, () -> "The solution has no valid number in cell ("
+                            + targetRow + ", " + targetCol + ")");
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns an estimate of the heap used by this board: its grids, its undo history, its checkpoints, and its
+     * move log and hint engine when it has them. Only the move log grows with the length of the game.
+     * @return the approximate size in bytes
+     */
+    long footprint() {
+        return Footprint.object(11 * Footprint.REFERENCE + 3 * Integer.BYTES + 2 * Long.BYTES + 1)
+                + board.footprint() + solution.footprint() + history.footprint()
+                + (moveLog == null ? 0 : moveLog.footprint())
+                // the map, its table and one entry, short name and copy of the cells per checkpoint
+                + (checkpoints == null ? 0 : Footprint.object(40) + Footprint.array(16, Footprint.REFERENCE)
+                        + (96L + Footprint.array(SudokuGrid.CELLS, Byte.BYTES)) * checkpoints.size())
+                + Footprint.object(2 * Integer.BYTES + Footprint.REFERENCE)
+                + Footprint.array(Math.max(10, completionListeners.size()), Footprint.REFERENCE)
+                + Footprint.array(SudokuGrid.CELLS, Integer.BYTES)
+                + Footprint.object(2 * Long.BYTES)
+                + (hintEngine == null ? 0 : hintEngine.footprint());
+    }
+
+    private HintEngine hintEngine() {
+        if (hintEngine == null) {
+            hintEngine = new HintEngine();
+        }
+        return hintEngine;
+    }
+
+    /**
+     * Formats the current state of the Sudoku board, for debugging or logs.
+     * Each row is on its own line, with numbers separated by spaces and 0 for the empty cells.
+     * @return the rows of the board
+     */
+
+    public String format() {
+        StringBuilder text = new StringBuilder(SudokuGrid.CELLS * 2 + SIZE);
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                if (col > 0) {
+                    text.append(' ');
+                }
+                text.append(board.get(row, col));
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    /**
+     * Represents a hint for a specific cell in the Sudoku board.
+     * Contains the row, column, and the correct value for that cell, and when the hint was found by logic,
+     * the technique used and an explanation for the player.
+     */
+
+    public static class Hint {
+        public final int row;
+        public final int col;
+        public final int value;
+        /** The technique that deduces the value, or {@code null} if it was read from the solution. */
+        public final Technique technique;
+        /** Why the value is correct, in Spanish, or {@code null} if it was read from the solution. */
+        public final String explanation;
+
+        /**
+         * Constructs a new Hint object.
+         *
+         * @param row   the row index of the hint
+         * @param col   the column index of the hint
+         * @param value the correct value for the cell
+         */
+
+        public Hint(int row, int col, int value) {
+            this(row, col, value, null, null);
+        }
+
+        /**
+         * Constructs a new Hint object found by a solving technique.
+         *
+         * @param row         the row index of the hint
+         * @param col         the column index of the hint
+         * @param value       the correct value for the cell
+         * @param technique   the technique that deduces the value
+         * @param explanation why the value is correct
+         */
+
+        public Hint(int row, int col, int value, Technique technique, String explanation) {
+            this.row = row;
+            this.col = col;
+            this.value = value;
+            this.technique = technique;
+            this.explanation = explanation;
+        }
+    }
+}
\ No newline at end of file
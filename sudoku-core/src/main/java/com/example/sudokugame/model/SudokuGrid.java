@@ -0,0 +1,287 @@
+package com.example.sudokugame.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Primitive storage for a 6x6 sudoku grid.
+ * The cells are kept in a flat {@code byte[36]} in row-major order and, for every row, column and 2x3 block,
+ * a bitmask of the digits it already contains (bit {@code d} set means digit {@code d} is present).
+ * The masks are updated incrementally on every {@link #set(int, int, int)}, so asking whether a digit
+ * can be placed is a single mask test with no allocation.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class SudokuGrid {
+
+    public static final int SIZE = 6;
+    public static final int BLOCK_ROWS = 2;
+    public static final int BLOCK_COLS = 3;
+    public static final int CELLS = SIZE * SIZE;
+    /** The shape of this grid, for code that works on any {@link Geometry}. */
+    public static final Geometry GEOMETRY = Geometry.SIX_BY_SIX;
+    // block of every cell, from the tables of the geometry
+    private static final int[] BLOCK_OF = GEOMETRY.blockOf;
+    /** Mask with the bits of every digit from 1 to 6 set. */
+    public static final int ALL_DIGITS = ((1 << SIZE) - 1) << 1;
+
+    private final byte[] cells = new byte[CELLS];
+    private final int[] rowMask = new int[SIZE];
+    private final int[] colMask = new int[SIZE];
+    private final int[] blockMask = new int[SIZE];
+    // How many times each digit appears per unit, so a mask bit is only cleared when the last copy goes away
+    private final byte[] rowCount = new byte[SIZE * (SIZE + 1)];
+    private final byte[] colCount = new byte[SIZE * (SIZE + 1)];
+    private final byte[] blockCount = new byte[SIZE * (SIZE + 1)];
+
+    private List<List<Integer>> rowsView;
+
+    /**
+     * Returns the index of the 2x3 block that contains the given cell.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return the block index, from 0 to 5 in row-major order
+     */
+    public static int blockIndex(int row, int col) {
+        return BLOCK_OF[row * SIZE + col];
+    }
+
+    /**
+     * Returns the value of a cell.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return the digit in the cell, or 0 if it is empty
+     */
+    public int get(int row, int col) {
+        return cells[row * SIZE + col];
+    }
+
+    /**
+     * Returns the value of a cell given its row-major index.
+     * @param index the cell index, from 0 to 35
+     * @return the digit in the cell, or 0 if it is empty
+     */
+    public int get(int index) {
+        return cells[index];
+    }
+
+    /**
+     * Checks whether a digit is absent from the row, column and block of a cell.
+     * The value currently stored in the cell itself is taken into account.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @param digit the digit to test, from 1 to 6
+     * @return {@code true} if the digit does not appear in any unit of the cell
+     */
+    public boolean canPlace(int row, int col, int digit) {
+        return (usedMask(row, col) & (1 << digit)) == 0;
+    }
+
+    /**
+     * Returns the union of the digits present in the row, column and block of a cell.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return a bitmask where bit {@code d} is set if digit {@code d} is already used
+     */
+    public int usedMask(int row, int col) {
+        return rowMask[row] | colMask[col] | blockMask[blockIndex(row, col)];
+    }
+
+    /**
+     * Returns the digits that can still be placed in an empty cell.
+     * The row, column and block masks are updated on every {@link #set(int, int, int)}, so a change only
+     * affects the candidates of the cells that share a unit with it, and reading them is O(1).
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @return a bitmask where bit {@code d} is set if digit {@code d} is allowed, or 0 if the cell is filled
+     */
+    public int candidates(int row, int col) {
+        return cells[row * SIZE + col] != 0 ? 0 : ALL_DIGITS & ~usedMask(row, col);
+    }
+
+    /**
+     * Stores a value in a cell and updates the unit masks.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @param digit the digit to store, from 1 to 6, or 0 to empty the cell
+     */
+    public void set(int row, int col, int digit) {
+        int index = row * SIZE + col;
+        int old = cells[index];
+        if (old == digit) {
+            return;
+        }
+        int block = blockIndex(row, col);
+        if (old != 0) {
+            remove(row, col, block, old);
+        }
+        if (digit != 0) {
+            add(row, col, block, digit);
+        }
+        cells[index] = (byte) digit;
+    }
+
+    private void add(int row, int col, int block, int digit) {
+        int bit = 1 << digit;
+        if (rowCount[row * (SIZE + 1) + digit]++ == 0) rowMask[row] |= bit;
+        if (colCount[col * (SIZE + 1) + digit]++ == 0) colMask[col] |= bit;
+        if (blockCount[block * (SIZE + 1) + digit]++ == 0) blockMask[block] |= bit;
+    }
+
+    private void remove(int row, int col, int block, int digit) {
+        int bit = ~(1 << digit);
+        if (--rowCount[row * (SIZE + 1) + digit] == 0) rowMask[row] &= bit;
+        if (--colCount[col * (SIZE + 1) + digit] == 0) colMask[col] &= bit;
+        if (--blockCount[block * (SIZE + 1) + digit] == 0) blockMask[block] &= bit;
+    }
+
+    /**
+     * Empties every cell of the grid.
+     */
+    public void clear() {
+        Arrays.fill(cells, (byte) 0);
+        Arrays.fill(rowMask, 0);
+        Arrays.fill(colMask, 0);
+        Arrays.fill(blockMask, 0);
+        Arrays.fill(rowCount, (byte) 0);
+        Arrays.fill(colCount, (byte) 0);
+        Arrays.fill(blockCount, (byte) 0);
+    }
+
+    /**
+     * Makes this grid an exact copy of another one, including its masks.
+     * @param other the grid to copy from
+     */
+    public void copyFrom(SudokuGrid other) {
+        System.arraycopy(other.cells, 0, cells, 0, CELLS);
+        System.arraycopy(other.rowMask, 0, rowMask, 0, SIZE);
+        System.arraycopy(other.colMask, 0, colMask, 0, SIZE);
+        System.arraycopy(other.blockMask, 0, blockMask, 0, SIZE);
+        System.arraycopy(other.rowCount, 0, rowCount, 0, rowCount.length);
+        System.arraycopy(other.colCount, 0, colCount, 0, colCount.length);
+        System.arraycopy(other.blockCount, 0, blockCount, 0, blockCount.length);
+    }
+
+    /**
+     * Copies the raw cell values into an array.
+     * @param destination an array of at least 36 bytes
+     */
+    public void copyCellsTo(byte[] destination) {
+        copyCellsTo(destination, 0);
+    }
+
+    /**
+     * Copies the cell values into an array at the given offset, in row-major order.
+     * @param destination the array that receives 36 bytes
+     * @param offset the index of the first byte to write
+     */
+    public void copyCellsTo(byte[] destination, int offset) {
+        System.arraycopy(cells, 0, destination, offset, CELLS);
+    }
+
+    /**
+     * Replaces every cell with the given values and rebuilds the masks.
+     * @param source an array of at least 36 bytes, in row-major order
+     */
+    public void load(byte[] source) {
+        load(source, 0);
+    }
+
+    /**
+     * Replaces every cell with the values stored in an array at the given offset and rebuilds the masks.
+     * @param source an array holding 36 bytes in row-major order
+     * @param offset the index of the first byte to read
+     */
+    public void load(byte[] source, int offset) {
+        clear();
+        for (int i = 0; i < CELLS; i++) {
+            if (source[offset + i] != 0) {
+                set(i / SIZE, i % SIZE, source[offset + i]);
+            }
+        }
+    }
+
+    /**
+     * Returns an estimate of the heap used by this grid.
+     * @return the approximate size in bytes
+     */
+    long footprint() {
+        return Footprint.object(8 * Footprint.REFERENCE)
+                + Footprint.array(CELLS, Byte.BYTES)
+                + 3 * Footprint.array(SIZE, Integer.BYTES)
+                + 3 * Footprint.array(SIZE * (SIZE + 1), Byte.BYTES);
+    }
+
+    /**
+     * Checks if every cell of the grid holds a digit.
+     * @return {@code true} if there are no empty cells; {@code false} otherwise
+     */
+    public boolean isComplete() {
+        for (int i = 0; i < CELLS; i++) {
+            if (cells[i] == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a read-only view of the grid as a list of rows.
+     * The view is created once and always reflects the current cell values.
+     * @return an unmodifiable list of unmodifiable rows
+     */
+    public List<List<Integer>> asRows() {
+        if (rowsView == null) {
+            rowsView = new RowsView();
+        }
+        return rowsView;
+    }
+
+    /**
+     * Read-only list of rows backed by the cell array.
+     */
+    private final class RowsView extends AbstractList<List<Integer>> {
+        private final List<List<Integer>> rows;
+
+        RowsView() {
+            List<Integer>[] views = new RowView[SIZE];
+            for (int r = 0; r < SIZE; r++) {
+                views[r] = new RowView(r);
+            }
+            rows = List.of(views);
+        }
+
+        @Override
+        public List<Integer> get(int row) {
+            return rows.get(row);
+        }
+
+        @Override
+        public int size() {
+            return SIZE;
+        }
+    }
+
+    /**
+     * Read-only view of a single row backed by the cell array.
+     */
+    private final class RowView extends AbstractList<Integer> {
+        private final int offset;
+
+        RowView(int row) {
+            this.offset = row * SIZE;
+        }
+
+        @Override
+        public Integer get(int col) {
+            Objects.checkIndex(col, SIZE);
+            return (int) cells[offset + col];
+        }
+
+        @Override
+        public int size() {
+            return SIZE;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.sudokugame.model;
+
+/**
+ * Human solving techniques known to the {@link HintEngine}, from the simplest to the hardest.
+ * The engine always tries them in this order, so a hint uses the cheapest technique that applies.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public enum Technique {
+    /** A cell where only one number is allowed. */
+    NAKED_SINGLE("Único candidato", 1),
+    /** A number that fits in only one cell of a row, column or block. */
+    HIDDEN_SINGLE("Único lugar", 2),
+    /** Two cells of a unit that only allow the same two numbers, which can be removed from the rest of the unit. */
+    NAKED_PAIR("Pareja desnuda", 5),
+    /** Two numbers that fit in only the same two cells of a unit, which can allow no other number. */
+    HIDDEN_PAIR("Pareja oculta", 8),
+    /** A number that fits in a block only within one row or column, which it can be removed from outside the block. */
+    POINTING("Intersección apuntadora", 10),
+    /** A number that fits in a row or column only within one block, which it can be removed from in the rest of the block. */
+    BOX_LINE("Reducción caja-línea", 12);
+
+    private final String displayName;
+    private final int cost;
+
+    Technique(String displayName, int cost) {
+        this.displayName = displayName;
+        this.cost = cost;
+    }
+
+    /**
+     * Returns the name of the technique shown to the player.
+     * @return the name in Spanish
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns how much using the technique once adds to the score of a puzzle.
+     * @return the cost of one step
+     * @see DifficultyGrader
+     */
+    public int getCost() {
+        return cost;
+    }
+}
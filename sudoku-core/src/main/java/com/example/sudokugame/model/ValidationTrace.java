@@ -0,0 +1,47 @@
+package com.example.sudokugame.model;
+
+import java.io.PrintStream;
+
+/**
+ * Opt-in sink for the diagnostics of {@link SudokuBoard#isValid(int, int, int)}.
+ * A board only reports to a trace after {@link SudokuBoard#setValidationTrace(ValidationTrace)} has been called,
+ * so when no trace is installed validation does no logging and builds no strings.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+@FunctionalInterface
+public interface ValidationTrace {
+
+    /**
+     * The kind of unit in which a conflicting number was found.
+     */
+    enum Unit { ROW, COLUMN, BLOCK }
+
+    /**
+     * Receives the result of a single validation.
+     * @param row the row index of the checked cell
+     * @param col the column index of the checked cell
+     * @param candidate the number that was checked
+     * @param unit the unit where the number was already present, or {@code null} if the number is valid
+     * @param conflictRow the row of the conflicting cell, or -1 if the number is valid
+     * @param conflictCol the column of the conflicting cell, or -1 if the number is valid
+     */
+    void onValidation(int row, int col, int candidate, Unit unit, int conflictRow, int conflictCol);
+
+    /**
+     * Creates a trace that writes one line per validation to the given stream.
+     * @param out the stream to write to
+     * @return a trace printing to {@code out}
+     */
+    static ValidationTrace printingTo(PrintStream out) {
+        return (row, col, candidate, unit, conflictRow, conflictCol) -> {
+            if (unit == null) {
+                out.println("Candidate " + candidate + " is valid at position (" + row + ", " + col + ")");
+            } else {
+                out.println("Candidate " + candidate + " at position (" + row + ", " + col + ") found in "
+                        + unit.name().toLowerCase() + " at position (" + conflictRow + ", " + conflictCol + ")");
+            }
+        };
+    }
+}
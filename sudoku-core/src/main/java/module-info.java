@@ -0,0 +1,5 @@
+module com.example.sudokugame.core {
+    requires java.management;
+
+    exports com.example.sudokugame.model;
+}
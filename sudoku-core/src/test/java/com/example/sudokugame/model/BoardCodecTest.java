@@ -0,0 +1,166 @@
+package com.example.sudokugame.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Round trips of the {@link BoardCodec} encodings: everything that is encoded must decode to the same cells.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+class BoardCodecTest {
+
+    private static final int PUZZLES = 50;
+
+    @Test
+    void puzzleRoundTrip() {
+        SudokuGrid givens = new SudokuGrid();
+        SudokuGrid decoded = new SudokuGrid();
+        ByteBuffer buffer = ByteBuffer.allocate(BoardCodec.PUZZLE_BYTES);
+        for (long seed = 0; seed < PUZZLES; seed++) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                Puzzle.generate(seed, difficulty).copyGivensTo(givens);
+                buffer.clear();
+                BoardCodec.encodePuzzle(givens, buffer);
+                assertEquals(BoardCodec.PUZZLE_BYTES, buffer.position());
+
+                buffer.flip();
+                BoardCodec.decodePuzzle(buffer, decoded);
+                assertEquals(BoardCodec.PUZZLE_BYTES, buffer.position());
+                assertArrayEquals(cells(givens), cells(decoded), "seed " + seed + " " + difficulty);
+
+                BoardCodec.puzzleFromString(BoardCodec.puzzleToString(givens), decoded);
+                assertArrayEquals(cells(givens), cells(decoded), "seed " + seed + " " + difficulty);
+            }
+        }
+    }
+
+    @Test
+    void solutionRoundTrip() {
+        SudokuGrid solution = new SudokuGrid();
+        SudokuGrid decoded = new SudokuGrid();
+        ByteBuffer buffer = ByteBuffer.allocate(BoardCodec.SOLUTION_BYTES);
+        for (long seed = 0; seed < PUZZLES; seed++) {
+            Puzzle.generate(seed, Difficulty.EASY).copySolutionTo(solution);
+            BoardCodec.unpackSolution(BoardCodec.packSolution(solution), decoded);
+            assertArrayEquals(cells(solution), cells(decoded), "seed " + seed);
+
+            buffer.clear();
+            BoardCodec.encodeSolution(solution, buffer);
+            assertEquals(BoardCodec.SOLUTION_BYTES, buffer.position());
+            buffer.flip();
+            BoardCodec.decodeSolution(buffer, decoded);
+            assertArrayEquals(cells(solution), cells(decoded), "seed " + seed);
+        }
+    }
+
+    @Test
+    void recordsDecodeAtTheirIndex() {
+        int recordBytes = BoardCodec.PUZZLE_BYTES + BoardCodec.SOLUTION_BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(PUZZLES * recordBytes);
+        SudokuGrid grid = new SudokuGrid();
+        for (long seed = 0; seed < PUZZLES; seed++) {
+            Puzzle puzzle = Puzzle.generate(seed, Difficulty.MEDIUM);
+            puzzle.copyGivensTo(grid);
+            BoardCodec.encodePuzzle(grid, buffer);
+            puzzle.copySolutionTo(grid);
+            BoardCodec.encodeSolution(grid, buffer);
+        }
+
+        SudokuGrid givens = new SudokuGrid();
+        SudokuGrid solution = new SudokuGrid();
+        // read backwards, so that every record is found by its index and not by the position of the buffer
+        for (int i = PUZZLES - 1; i >= 0; i--) {
+            BoardCodec.decodePuzzle(buffer, i * recordBytes, givens);
+            BoardCodec.decodeSolution(buffer, i * recordBytes + BoardCodec.PUZZLE_BYTES, solution);
+            assertEquals(Puzzle.generate(i, Difficulty.MEDIUM), new Puzzle(givens, solution, Difficulty.MEDIUM, i));
+        }
+        assertEquals(buffer.capacity(), buffer.position());
+    }
+
+    @Test
+    void stateRoundTrip() {
+        SudokuBoard board = playedBoard(7);
+        SudokuGrid decoded = new SudokuGrid();
+        ByteBuffer buffer = ByteBuffer.allocate(BoardCodec.STATE_BYTES);
+        BoardCodec.encodeState(board.cells(), board.givens(), buffer);
+        assertEquals(BoardCodec.STATE_BYTES, buffer.position());
+
+        buffer.flip();
+        assertEquals(board.givens(), BoardCodec.decodeState(buffer, decoded));
+        assertEquals(BoardCodec.STATE_BYTES, buffer.position());
+        assertArrayEquals(cells(board.cells()), cells(decoded));
+    }
+
+    @Test
+    void boardRoundTrip() {
+        for (long seed = 0; seed < PUZZLES; seed++) {
+            SudokuBoard board = playedBoard(seed);
+            ByteBuffer buffer = ByteBuffer.allocate(BoardCodec.BOARD_BYTES);
+            BoardCodec.encodeBoard(board, buffer);
+            assertEquals(BoardCodec.BOARD_BYTES, buffer.position());
+
+            buffer.flip();
+            assertSameBoard(board, BoardCodec.decodeBoard(buffer));
+            assertSameBoard(board, BoardCodec.boardFromString(BoardCodec.boardToString(board)));
+        }
+    }
+
+    @Test
+    void rejectsInvalidData() {
+        // every cell holds 7
+        ByteBuffer puzzle = ByteBuffer.allocate(BoardCodec.PUZZLE_BYTES);
+        for (int i = 0; i < BoardCodec.PUZZLE_BYTES; i++) {
+            puzzle.put((byte) -1);
+        }
+        puzzle.flip();
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.decodePuzzle(puzzle, new SudokuGrid()));
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.unpackSolution(-1L, new SudokuGrid()));
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.packSolution(new SudokuGrid()));
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.boardFromString("AAAA"));
+    }
+
+    /**
+     * Creates a board with some numbers played, right and wrong, and a hint used.
+     */
+    private static SudokuBoard playedBoard(long seed) {
+        SudokuBoard board = SudokuBoard.fromSeed(seed, Difficulty.EASY);
+        int played = 0;
+        for (int row = 0; row < SudokuGrid.SIZE; row++) {
+            for (int col = 0; col < SudokuGrid.SIZE; col++) {
+                if (board.isGiven(row, col)) continue;
+                // alternate between the right number, a wrong one and leaving the cell empty
+                int right = board.solution().get(row, col);
+                switch (played++ % 3) {
+                    case 0 -> board.setCell(row, col, right);
+                    case 1 -> board.setCell(row, col, right % SudokuGrid.SIZE + 1);
+                    default -> { }
+                }
+            }
+        }
+        board.decreaseAttempts();
+        return board;
+    }
+
+    private static void assertSameBoard(SudokuBoard expected, SudokuBoard actual) {
+        assertArrayEquals(cells(expected.cells()), cells(actual.cells()));
+        assertArrayEquals(cells(expected.solution()), cells(actual.solution()));
+        assertEquals(expected.givens(), actual.givens());
+        assertEquals(expected.getSeed(), actual.getSeed());
+        assertEquals(expected.getAttemptsLeft(), actual.getAttemptsLeft());
+        assertEquals(expected.getEmptyCellCount(), actual.getEmptyCellCount());
+        assertEquals(expected.getWrongCellCount(), actual.getWrongCellCount());
+    }
+
+    private static byte[] cells(SudokuGrid grid) {
+        byte[] cells = new byte[SudokuGrid.CELLS];
+        grid.copyCellsTo(cells);
+        return cells;
+    }
+}
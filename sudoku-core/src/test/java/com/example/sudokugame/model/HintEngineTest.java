@@ -0,0 +1,68 @@
+package com.example.sudokugame.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Solves generated puzzles with the placements of the {@link HintEngine} and checks every one of them against
+ * the solution, and that the {@link DifficultyGrader} says which puzzles logic alone can solve.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+class HintEngineTest {
+
+    private static final int PUZZLES = 40;
+
+    @Test
+    void placementsAgreeWithTheSolution() {
+        HintEngine engine = new HintEngine(true);
+        DifficultyGrader grader = new DifficultyGrader();
+        DlxSolver solver = new DlxSolver();
+        SudokuGrid grid = new SudokuGrid();
+        SudokuGrid solution = new SudokuGrid();
+        for (long seed = 0; seed < PUZZLES; seed++) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                Puzzle puzzle = Puzzle.generate(seed, difficulty);
+                puzzle.copyGivensTo(grid);
+                puzzle.copySolutionTo(solution);
+                assertEquals(1, solver.countSolutions(grid, 2), "seed " + seed + " " + difficulty);
+                DifficultyGrader.Grade grade = grader.grade(puzzle);
+
+                SolvingStep step;
+                while ((step = engine.nextPlacement(grid)) != null) {
+                    String where = "seed " + seed + " " + difficulty + " (" + step.getRow() + ", " + step.getCol() + ")";
+                    assertTrue(step.isPlacement(), where);
+                    assertEquals(0, grid.get(step.getRow(), step.getCol()), where);
+                    assertEquals(solution.get(step.getRow(), step.getCol()), step.getValue(), where);
+                    assertTrue(step.getExplanation() != null, where);
+                    grid.set(step.getRow(), step.getCol(), step.getValue());
+                }
+                assertEquals(grade.isSolved(), grid.isComplete(), "seed " + seed + " " + difficulty);
+                if (grade.isSolved()) {
+                    assertArrayEquals(cells(solution), cells(grid), "seed " + seed + " " + difficulty);
+                }
+            }
+        }
+    }
+
+    @Test
+    void gradesEmptyStepsAsSolved() {
+        SudokuGrid solution = new SudokuGrid();
+        Puzzle.generate(3, Difficulty.EASY).copySolutionTo(solution);
+        DifficultyGrader.Grade grade = new DifficultyGrader().grade(solution);
+        assertTrue(grade.isSolved());
+        assertEquals(0, grade.getSteps());
+        assertNull(new HintEngine().nextPlacement(solution));
+    }
+
+    private static byte[] cells(SudokuGrid grid) {
+        byte[] cells = new byte[SudokuGrid.CELLS];
+        grid.copyCellsTo(cells);
+        return cells;
+    }
+}
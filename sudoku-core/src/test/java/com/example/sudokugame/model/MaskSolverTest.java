@@ -0,0 +1,104 @@
+package com.example.sudokugame.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the {@link MaskSolver} against the {@link DlxSolver} on random 6x6 grids, and the puzzles that the
+ * {@link BoardGenerator} makes with it for every geometry.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+class MaskSolverTest {
+
+    private static final int GRIDS = 300;
+    private static final int LIMIT = 20;
+
+    @Test
+    void countsAsManySolutionsAsDancingLinks() {
+        MaskSolver maskSolver = new MaskSolver(Geometry.SIX_BY_SIX);
+        DlxSolver dlxSolver = new DlxSolver();
+        SplittableRandom random = new SplittableRandom(2024);
+        byte[] puzzle = new byte[SudokuGrid.CELLS];
+        SudokuGrid grid = new SudokuGrid();
+        for (int i = 0; i < GRIDS; i++) {
+            randomPuzzle(maskSolver, random, puzzle);
+            grid.load(puzzle);
+            assertEquals(dlxSolver.countSolutions(grid, LIMIT), maskSolver.countSolutions(puzzle, LIMIT),
+                    "grid " + i + ": " + BoardCodec.puzzleToString(grid));
+        }
+    }
+
+    @Test
+    void solvesWhatDancingLinksSolves() {
+        MaskSolver maskSolver = new MaskSolver(Geometry.SIX_BY_SIX);
+        DlxSolver dlxSolver = new DlxSolver();
+        SplittableRandom random = new SplittableRandom(7);
+        byte[] puzzle = new byte[SudokuGrid.CELLS];
+        byte[] solution = new byte[SudokuGrid.CELLS];
+        SudokuGrid grid = new SudokuGrid();
+        SudokuGrid expected = new SudokuGrid();
+        for (int i = 0; i < GRIDS; i++) {
+            randomPuzzle(maskSolver, random, puzzle);
+            grid.load(puzzle);
+            boolean solved = dlxSolver.solve(grid, expected);
+            assertEquals(solved, maskSolver.solve(puzzle, solution), "grid " + i);
+            // several solutions may be found in a different order, so only unique ones are compared
+            if (solved && dlxSolver.countSolutions(grid, 2) == 1) {
+                assertArrayEquals(cells(expected), solution, "grid " + i);
+            }
+        }
+    }
+
+    @Test
+    void generatesUniquePuzzlesForEveryGeometry() {
+        Geometry[] geometries = {
+                Geometry.FOUR_BY_FOUR, Geometry.SIX_BY_SIX, Geometry.EIGHT_BY_EIGHT, Geometry.NINE_BY_NINE
+        };
+        BoardGenerator generator = new BoardGenerator(new SplittableRandom(99));
+        for (Geometry geometry : geometries) {
+            MaskSolver solver = new MaskSolver(geometry);
+            byte[] solution = new byte[geometry.getCells()];
+            byte[] puzzle = new byte[geometry.getCells()];
+            byte[] solved = new byte[geometry.getCells()];
+            for (int i = 0; i < 10; i++) {
+                generator.generatePuzzle(geometry, solution, puzzle);
+                assertEquals(1, solver.countSolutions(puzzle, 2), geometry + " puzzle " + i);
+                assertTrue(solver.solve(puzzle, solved));
+                assertArrayEquals(solution, solved, geometry + " puzzle " + i);
+                for (int cell = 0; cell < puzzle.length; cell++) {
+                    assertTrue(puzzle[cell] == 0 || puzzle[cell] == solution[cell], geometry + " cell " + cell);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills a random solution and empties a random number of its cells; one puzzle in four also has a
+     * random number written over a kept clue, so that some have no solution at all.
+     */
+    private static void randomPuzzle(MaskSolver solver, SplittableRandom random, byte[] puzzle) {
+        Arrays.fill(puzzle, (byte) 0);
+        solver.fillRandom(puzzle, random);
+        int empty = 8 + random.nextInt(SudokuGrid.CELLS - 8);
+        for (int i = 0; i < empty; i++) {
+            puzzle[random.nextInt(SudokuGrid.CELLS)] = 0;
+        }
+        if (random.nextInt(4) == 0) {
+            puzzle[random.nextInt(SudokuGrid.CELLS)] = (byte) (1 + random.nextInt(SudokuGrid.SIZE));
+        }
+    }
+
+    private static byte[] cells(SudokuGrid grid) {
+        byte[] cells = new byte[SudokuGrid.CELLS];
+        grid.copyCellsTo(cells);
+        return cells;
+    }
+}
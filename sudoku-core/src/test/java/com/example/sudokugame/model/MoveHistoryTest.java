@@ -0,0 +1,300 @@
+package com.example.sudokugame.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Plays random sequences of moves, undos, redos and checkpoint restores on a {@link SudokuBoard} and on a
+ * reference that keeps a full copy of the board for every step, and checks that both always hold the same
+ * cells and that the move log replays the game.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+class MoveHistoryTest {
+
+    private static final int GAMES = 40;
+    private static final int ACTIONS = 400;
+
+    @Test
+    void packsChanges() {
+        int move = MoveHistory.pack(35, 6, 0);
+        assertEquals(35, MoveHistory.cell(move));
+        assertEquals(6, MoveHistory.oldValue(move));
+        assertEquals(0, MoveHistory.newValue(move));
+    }
+
+    @Test
+    void undoAndRedoMatchReference() {
+        for (long seed = 0; seed < GAMES; seed++) {
+            SudokuBoard board = SudokuBoard.fromSeed(seed, Difficulty.EASY);
+            Reference reference = new Reference(board);
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int action = 0; action < ACTIONS; action++) {
+                play(board, reference, random, random.nextInt(4));
+                assertArrayEquals(reference.current, cells(board), "seed " + seed + ", action " + action);
+                assertEquals(!reference.undo.isEmpty(), board.canUndo());
+                assertEquals(!reference.redo.isEmpty(), board.canRedo());
+            }
+        }
+    }
+
+    @Test
+    void checkpointsAndReplayMatchReference() {
+        for (long seed = 0; seed < GAMES; seed++) {
+            SudokuBoard board = SudokuBoard.fromSeed(seed, Difficulty.MEDIUM);
+            // odd games record their moves, so that checkpoints are checked with and without a move log
+            MoveLog log = seed % 2 == 1 ? board.recordMoves() : null;
+            Reference reference = new Reference(board);
+            Map<String, byte[]> checkpoints = new HashMap<>();
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int action = 0; action < ACTIONS; action++) {
+                int kind = random.nextInt(6);
+                String name = "checkpoint " + random.nextInt(3);
+                if (kind == 4) {
+                    board.saveCheckpoint(name);
+                    checkpoints.put(name, reference.current.clone());
+                } else if (kind == 5) {
+                    assertEquals(checkpoints.containsKey(name), board.restoreCheckpoint(name));
+                    if (checkpoints.containsKey(name)) {
+                        reference.beginStep();
+                        byte[] target = checkpoints.get(name);
+                        for (int cell = 0; cell < SudokuGrid.CELLS; cell++) {
+                            reference.set(cell, target[cell]);
+                        }
+                        reference.endStep();
+                    }
+                } else {
+                    play(board, reference, random, kind);
+                }
+                assertArrayEquals(reference.current, cells(board), "seed " + seed + ", action " + action);
+                assertEquals(!reference.undo.isEmpty(), board.canUndo());
+            }
+
+            if (log == null) {
+                assertNull(board.getMoveLog());
+                assertThrows(IllegalStateException.class, board::replay);
+                continue;
+            }
+            SudokuGrid state = new SudokuGrid();
+            for (String name : log.getCheckpointNames()) {
+                log.stateAt(log.getCheckpoint(name), state);
+                assertArrayEquals(checkpoints.get(name), cells(state), name);
+            }
+            assertArrayEquals(cells(board), cells(board.replay()));
+            SudokuBoard replayed = SudokuBoard.replay(board.getSeed(), board.getDifficulty(), log.toArray());
+            assertArrayEquals(cells(board), cells(replayed));
+            assertEquals(board.getEmptyCellCount(), replayed.getEmptyCellCount());
+            assertEquals(board.getWrongCellCount(), replayed.getWrongCellCount());
+        }
+    }
+
+    @Test
+    void rejectsGamesThatDoNotBelongToTheSeed() {
+        SudokuBoard board = SudokuBoard.fromSeed(11, Difficulty.EASY);
+        int free = randomFreeCell(board, new SplittableRandom(11));
+        int given = 0;
+        while (!board.isGiven(given / SudokuGrid.SIZE, given % SudokuGrid.SIZE)) {
+            given++;
+        }
+        // an empty cell of the puzzle cannot be emptied, and an initial number cannot be changed
+        int[] emptiesFreeCell = {MoveHistory.pack(free, 1, 0)};
+        int[] changesGiven = {MoveHistory.pack(given, board.getCell(given), 0)};
+        assertThrows(IllegalArgumentException.class, () -> SudokuBoard.replay(11, Difficulty.EASY, emptiesFreeCell));
+        assertThrows(IllegalArgumentException.class, () -> SudokuBoard.replay(11, Difficulty.EASY, changesGiven));
+
+        SudokuBoard fromPuzzle = new SudokuBoard(Puzzle.generate(11, Difficulty.EASY));
+        assertNull(fromPuzzle.getDifficulty());
+        assertThrows(IllegalStateException.class, fromPuzzle::replay);
+    }
+
+    @Test
+    void undoesEverythingBackToTheStart() {
+        SudokuBoard board = SudokuBoard.fromSeed(3, Difficulty.MEDIUM);
+        byte[] start = cells(board);
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 200; i++) {
+            board.saveStateForUndo();
+            int cell = randomFreeCell(board, random);
+            board.setCell(cell / SudokuGrid.SIZE, cell % SudokuGrid.SIZE, 1 + random.nextInt(SudokuGrid.SIZE));
+        }
+        byte[] end = cells(board);
+
+        while (board.canUndo()) {
+            board.undo();
+        }
+        assertArrayEquals(start, cells(board));
+        while (board.canRedo()) {
+            board.redo();
+        }
+        assertArrayEquals(end, cells(board));
+    }
+
+    @Test
+    void keepsOnlyTheConfiguredDepth() {
+        SudokuBoard board = SudokuBoard.fromSeed(5, Difficulty.EASY);
+        board.setUndoDepth(8);
+        int cell = randomFreeCell(board, new SplittableRandom(5));
+        int row = cell / SudokuGrid.SIZE;
+        int col = cell % SudokuGrid.SIZE;
+        for (int i = 0; i < 20; i++) {
+            board.saveStateForUndo();
+            board.setCell(row, col, i % SudokuGrid.SIZE + 1);
+        }
+        assertEquals(8, board.getUndoDepth());
+
+        int undos = 0;
+        while (board.canUndo()) {
+            board.undo();
+            undos++;
+        }
+        assertEquals(8, undos);
+        // the oldest kept change was the thirteenth, which wrote 1 over a 6
+        assertEquals(6, board.getCell(row, col));
+        assertFalse(board.canUndo());
+        assertTrue(board.canRedo());
+    }
+
+    @Test
+    void keepsLongGamesBounded() {
+        SudokuBoard board = SudokuBoard.fromSeed(9, Difficulty.EASY);
+        board.setUndoDepth(16);
+        board.saveCheckpoint("start");
+        int cell = randomFreeCell(board, new SplittableRandom(9));
+        play(board, cell, 1_000);
+        long footprint = board.footprint();
+        play(board, cell, 100_000);
+        assertEquals(footprint, board.footprint());
+        assertNull(board.getMoveLog());
+
+        // a board that records its moves keeps all of them, undos included
+        MoveLog log = board.recordMoves();
+        play(board, cell, 1_000);
+        assertEquals(2_000, log.size());
+        // the log started on the initial board, since every move before it was undone
+        assertArrayEquals(cells(board), cells(board.replay()));
+        SudokuBoard played = SudokuBoard.fromSeed(9, Difficulty.EASY);
+        played.setCell(cell / SudokuGrid.SIZE, cell % SudokuGrid.SIZE, 1);
+        played.recordMoves();
+        assertThrows(IllegalStateException.class, played::replay);
+    }
+
+    /**
+     * Places a number in a cell and undoes it, as many times as asked.
+     */
+    private static void play(SudokuBoard board, int cell, int roundTrips) {
+        for (int i = 0; i < roundTrips; i++) {
+            board.saveStateForUndo();
+            board.setCell(cell / SudokuGrid.SIZE, cell % SudokuGrid.SIZE, 1 + i % SudokuGrid.SIZE);
+            board.undo();
+        }
+    }
+
+    /**
+     * Plays the same action on the board and on the reference: an undo, a redo or a step of changes.
+     */
+    private static void play(SudokuBoard board, Reference reference, SplittableRandom random, int kind) {
+        switch (kind) {
+            case 0 -> {
+                board.undo();
+                reference.undo();
+            }
+            case 1 -> {
+                board.redo();
+                reference.redo();
+            }
+            default -> {
+                // a step of one or two changes, as a move or a move with a candidate update
+                board.saveStateForUndo();
+                reference.beginStep();
+                int changes = 1 + random.nextInt(2);
+                for (int i = 0; i < changes; i++) {
+                    int cell = randomFreeCell(board, random);
+                    int value = random.nextInt(SudokuGrid.SIZE + 1);
+                    board.setCell(cell / SudokuGrid.SIZE, cell % SudokuGrid.SIZE, value);
+                    reference.set(cell, value);
+                }
+                reference.endStep();
+            }
+        }
+    }
+
+    private static int randomFreeCell(SudokuBoard board, SplittableRandom random) {
+        while (true) {
+            int cell = random.nextInt(SudokuGrid.CELLS);
+            if (!board.isGiven(cell / SudokuGrid.SIZE, cell % SudokuGrid.SIZE)) {
+                return cell;
+            }
+        }
+    }
+
+    private static byte[] cells(SudokuBoard board) {
+        return cells(board.cells());
+    }
+
+    private static byte[] cells(SudokuGrid grid) {
+        byte[] cells = new byte[SudokuGrid.CELLS];
+        grid.copyCellsTo(cells);
+        return cells;
+    }
+
+    /**
+     * The obvious history: a copy of the whole board before every step that changed something.
+     */
+    private static final class Reference {
+        final Deque<byte[]> undo = new ArrayDeque<>();
+        final Deque<byte[]> redo = new ArrayDeque<>();
+        byte[] current;
+        private byte[] before;
+        private boolean changed;
+
+        Reference(SudokuBoard board) {
+            current = cells(board);
+        }
+
+        void beginStep() {
+            before = current.clone();
+            changed = false;
+        }
+
+        void set(int cell, int value) {
+            if (current[cell] != value) {
+                current[cell] = (byte) value;
+                changed = true;
+            }
+        }
+
+        void endStep() {
+            if (changed) {
+                undo.push(before);
+                redo.clear();
+            }
+        }
+
+        void undo() {
+            if (!undo.isEmpty()) {
+                redo.push(current);
+                current = undo.pop();
+            }
+        }
+
+        void redo() {
+            if (!redo.isEmpty()) {
+                undo.push(current);
+                current = redo.pop();
+            }
+        }
+    }
+}
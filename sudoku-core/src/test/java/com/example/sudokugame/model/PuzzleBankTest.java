@@ -0,0 +1,124 @@
+package com.example.sudokugame.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Writes puzzle banks and reads them back, record by record.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+class PuzzleBankTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackEveryRecord() throws IOException {
+        Path path = directory.resolve("small.bank");
+        List<Puzzle> puzzles = new ArrayList<>();
+        for (long seed = 0; seed < 12; seed++) {
+            Difficulty difficulty = Difficulty.values()[(int) seed % Difficulty.values().length];
+            puzzles.add(Puzzle.generate(seed * 1_000_003, difficulty));
+        }
+        try (PuzzleBank.Writer writer = PuzzleBank.create(path)) {
+            for (Puzzle puzzle : puzzles) {
+                writer.write(puzzle);
+            }
+            assertEquals(puzzles.size(), writer.size());
+        }
+        assertEquals(PuzzleBank.HEADER_BYTES + (long) puzzles.size() * PuzzleBank.RECORD_BYTES, Files.size(path));
+
+        SudokuGrid expected = new SudokuGrid();
+        SudokuGrid actual = new SudokuGrid();
+        try (PuzzleBank bank = PuzzleBank.open(path)) {
+            assertEquals(puzzles.size(), bank.size());
+            for (int i = 0; i < puzzles.size(); i++) {
+                Puzzle puzzle = puzzles.get(i);
+                assertEquals(puzzle, bank.get(i));
+                assertEquals(puzzle.getSeed(), bank.getSeed(i));
+                assertEquals(puzzle.getDifficulty(), bank.getDifficulty(i));
+
+                puzzle.copyGivensTo(expected);
+                bank.copyGivensTo(i, actual);
+                assertArrayEquals(cells(expected), cells(actual), "givens of puzzle " + i);
+                puzzle.copySolutionTo(expected);
+                bank.copySolutionTo(i, actual);
+                assertArrayEquals(cells(expected), cells(actual), "solution of puzzle " + i);
+            }
+
+            int last = puzzles.size() - 1;
+            SudokuBoard board = new SudokuBoard(bank, last);
+            assertEquals(puzzles.get(last).getSeed(), board.getSeed());
+            puzzles.get(last).copyGivensTo(expected);
+            assertArrayEquals(cells(expected), cells(board.cells()));
+
+            assertThrows(IndexOutOfBoundsException.class, () -> bank.get(puzzles.size()));
+            assertThrows(IndexOutOfBoundsException.class, () -> bank.getSeed(-1));
+        }
+    }
+
+    @Test
+    void keepsRecordsAcrossWriterFlushes() throws IOException {
+        // more records than the writer buffers, so that the bank is written in several flushes
+        int count = 5000;
+        Puzzle[] puzzles = new Puzzle[3];
+        for (int i = 0; i < puzzles.length; i++) {
+            puzzles[i] = Puzzle.generate(i, Difficulty.values()[i]);
+        }
+        Path path = directory.resolve("large.bank");
+        SudokuGrid givens = new SudokuGrid();
+        SudokuGrid solution = new SudokuGrid();
+        try (PuzzleBank.Writer writer = PuzzleBank.create(path)) {
+            for (int i = 0; i < count; i++) {
+                Puzzle puzzle = puzzles[i % puzzles.length];
+                puzzle.copyGivensTo(givens);
+                puzzle.copySolutionTo(solution);
+                writer.write(givens, solution, puzzle.getDifficulty(), i);
+            }
+        }
+
+        try (PuzzleBank bank = PuzzleBank.open(path)) {
+            assertEquals(count, bank.size());
+            for (int i = 0; i < count; i++) {
+                Puzzle puzzle = puzzles[i % puzzles.length];
+                puzzle.copyGivensTo(givens);
+                puzzle.copySolutionTo(solution);
+                assertEquals(new Puzzle(givens, solution, puzzle.getDifficulty(), i), bank.get(i));
+            }
+        }
+    }
+
+    @Test
+    void rejectsFilesThatAreNotBanks() throws IOException {
+        Path empty = Files.createFile(directory.resolve("empty.bank"));
+        assertThrows(IOException.class, () -> PuzzleBank.open(empty));
+
+        Path path = directory.resolve("truncated.bank");
+        try (PuzzleBank.Writer writer = PuzzleBank.create(path)) {
+            writer.write(Puzzle.generate(1, Difficulty.EASY));
+            writer.write(Puzzle.generate(2, Difficulty.EASY));
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        Path truncated = Files.write(directory.resolve("cut.bank"), Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> PuzzleBank.open(truncated));
+    }
+
+    private static byte[] cells(SudokuGrid grid) {
+        byte[] cells = new byte[SudokuGrid.CELLS];
+        grid.copyCellsTo(cells);
+        return cells;
+    }
+}
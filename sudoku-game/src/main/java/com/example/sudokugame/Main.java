@@ -1,6 +1,7 @@
 package com.example.sudokugame;
 
-import com.example.sudokugame.model.SudokuBoard;
+import com.example.sudokugame.model.GameMetrics;
+import com.example.sudokugame.model.MetricsExporter;
 import com.example.sudokugame.view.HomeStage;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -15,6 +16,8 @@ import java.util.ArrayList;
 
 public class Main extends Application {
 
+    private static final System.Logger LOGGER = System.getLogger(Main.class.getName());
+
     private static Stage primaryStage;
 
     /**
@@ -30,6 +33,7 @@ public class Main extends Application {
     /**
      * Initializes the main stage of the application and starts the game.
      * This method is called after the JavaFX runtime has initialized.
+     * The metrics of the games are published through JMX, under {@link GameMetrics#OBJECT_NAME}.
      *
      * @param stage the primary stage for this application
      * @throws IOException if there is an error loading the initial scene or resources
@@ -37,8 +41,22 @@ public class Main extends Application {
 
     @Override
     public void start(Stage stage) throws IOException {
-        System.out.println("main");
+        LOGGER.log(System.Logger.Level.DEBUG, "Starting the application");
+        try {
+            GameMetrics.getInstance().registerMBean();
+        } catch (IllegalStateException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "The game metrics are not available through JMX", e);
+        }
         HomeStage.getInstance();
     }
+
+    /**
+     * Logs the metrics of the games played when the application closes.
+     */
+
+    @Override
+    public void stop() {
+        GameMetrics.getInstance().export(MetricsExporter.logging(LOGGER, System.Logger.Level.INFO));
+    }
 }
 
@@ -0,0 +1,756 @@
+package com.example.sudokugame.controller;
+
+import com.example.sudokugame.model.Difficulty;
+import com.example.sudokugame.model.GameSession;
+import com.example.sudokugame.model.Geometry;
+import com.example.sudokugame.model.PuzzleSupplier;
+import com.example.sudokugame.model.SudokuBoard;
+import com.example.sudokugame.model.SudokuGrid;
+import com.example.sudokugame.view.CanvasBoardView;
+import com.example.sudokugame.view.FontCache;
+
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.geometry.HPos;
+import javafx.geometry.Pos;
+import javafx.geometry.VPos;
+import javafx.scene.control.*;
+import javafx.scene.layout.GridPane;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
+import javafx.stage.Stage;
+import javafx.application.Platform;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Control class responsible to managing the sudoku game interface
+ * It connects the UI elements to the game Logic implement in the {@link GameSession}
+ * @author Isabela Bermúdez and Julieta Arteta
+ *  @version 1.0
+ */
+
+public class GameController {
+
+    private static final System.Logger LOGGER = System.getLogger(GameController.class.getName());
+
+    @FXML
+    private GridPane sudokuPanel;
+    @FXML
+    private Button helpButton;
+    @FXML
+    private Label hintsLeftLabel;
+    @FXML
+    private ImageView livesImageView;
+    @FXML
+    private Button btnUndoGame;
+
+    // Level of every game; -Dsudoku.difficulty=EASY, MEDIUM or HARD changes the default
+    private static final Difficulty DIFFICULTY = difficultyOption();
+    // Boards are generated on a background thread and kept ready for the next game of any window
+    private static final PuzzleSupplier PUZZLES = new PuzzleSupplier(
+            () -> SudokuBoard.withUniqueSolution(DIFFICULTY), PuzzleSupplier.DEFAULT_CAPACITY);
+
+    private GameSession session;
+    private SudokuBoard sudokuBoard;
+    // shown over the board while waiting for the generator
+    private final ProgressIndicator generatingIndicator = new ProgressIndicator();
+    private static final int SIZE = SudokuGrid.SIZE;
+    private static final Geometry GEOMETRY = SudokuGrid.GEOMETRY;
+    private static final int PEERS = GEOMETRY.getPeerCount();
+    private final TextField[][] cellFields = new TextField[SIZE][SIZE];
+    private TextField selectedCell = null;
+    // The cell font at each size is derived once and shared by every game window
+    private static final FontCache CELL_FONTS = new FontCache("/fonts/Poppins-Bold.ttf", "/Fonts/Poppins-Bold.ttf");
+    private Font cellFont;
+    // Style with no visible borders to blend with the gridPane
+    private static final String BASE_STYLE = "-fx-background-color: transparent; " +
+            "-fx-text-fill: #9300B7; " +
+            "-fx-padding: 0; " +
+            "-fx-background-insets: 0; " +
+            "-fx-alignment: center;";
+    // set while the cells are rewritten from the board, so that their listeners do not play moves
+    private boolean refreshingCells = false;
+
+    private static final KeyCombination UNDO = new KeyCodeCombination(KeyCode.Z, KeyCombination.SHORTCUT_DOWN);
+    private static final KeyCombination REDO = new KeyCodeCombination(KeyCode.Y, KeyCombination.SHORTCUT_DOWN);
+    private static final KeyCombination REDO_SHIFT = new KeyCodeCombination(KeyCode.Z,
+            KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN);
+    private static final KeyCombination SWITCH_RENDERER = new KeyCodeCombination(KeyCode.R,
+            KeyCombination.SHORTCUT_DOWN);
+
+    // The board is drawn either by the text fields or by a single canvas; -Dsudoku.renderer=canvas starts
+    // with the canvas, and Ctrl+R switches between them so their frame times can be compared
+    private CanvasBoardView canvasView;
+    private boolean canvasRenderer = "canvas".equals(System.getProperty("sudoku.renderer"));
+    // when the text fields were last rewritten and how many, until the next pulse shows them; 0 if none is pending
+    private long textRefreshStart;
+    private int textRefreshCells;
+
+    /**
+     * Starts generating boards in the background, so that the first game does not wait for the generator.
+     * Called when the home screen is shown; the boards are kept until a game window asks for one, and calling
+     * it again while they are ready has no effect.
+     */
+    public static void prefetchPuzzles() {
+        PUZZLES.prefetch();
+    }
+
+    /**
+     * Reads the level of the games from the {@code sudoku.difficulty} system property.
+     * @return the chosen level, or {@link Difficulty#DEFAULT} if there is none or it is not a level
+     */
+    private static Difficulty difficultyOption() {
+        String option = System.getProperty("sudoku.difficulty");
+        if (option == null) {
+            return Difficulty.DEFAULT;
+        }
+        try {
+            return Difficulty.valueOf(option.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Unknown difficulty {0}, playing {1}", option, Difficulty.DEFAULT);
+            return Difficulty.DEFAULT;
+        }
+    }
+
+    /**
+     * Initializes the game controller.
+     * This method is automatically called by JavaFX when the FXML file is loaded.
+     * It creates the cells of the board and starts a game on a board taken from the background generator.
+     */
+    @FXML
+    public void initialize() {
+        Platform.runLater(() -> {
+            createCells();
+            // Undo and redo shortcuts, handled before the text fields use them for their own text
+            sudokuPanel.getScene().addEventFilter(KeyEvent.KEY_PRESSED, this::handleShortcut);
+            sudokuPanel.getScene().addPostLayoutPulseListener(this::logTextRefresh);
+            newGame();
+        });
+    }
+
+    /**
+     * Starts a game on the next board of the background generator.
+     * A ready board is shown at once; otherwise the board is disabled and a progress indicator is shown until
+     * the generator hands one over, without blocking the application thread.
+     */
+
+    private void newGame() {
+        CompletableFuture<SudokuBoard> next = PUZZLES.next();
+        SudokuBoard board = next.getNow(null);
+        if (board != null) {
+            startGame(board);
+            return;
+        }
+        showGenerating(true);
+        next.whenComplete((generated, error) -> Platform.runLater(() -> {
+            showGenerating(false);
+            if (generated != null) {
+                startGame(generated);
+            } else {
+                LOGGER.log(System.Logger.Level.ERROR, "The background generator failed, generating here", error);
+                startGame(SudokuBoard.withUniqueSolution(DIFFICULTY));
+            }
+        }));
+    }
+
+    /**
+     * Shows a new game on the given board, with full lives and hints, and deselects any selected cell.
+     * @param board the board to play
+     */
+
+    private void startGame(SudokuBoard board) {
+        LOGGER.log(System.Logger.Level.DEBUG, () -> "Starting a game on the board\n" + board.format());
+        session = new GameSession(board);
+        session.addCompletionListener(completed -> Platform.runLater(this::showCompleted));
+        sudokuBoard = board;
+        if (canvasRenderer) {
+            canvasView.setBoard(sudokuBoard);
+        } else {
+            showBoard();
+        }
+        updateHintsLeftDisplay();
+        updateLivesDisplay();
+        selectedCell = null;
+    }
+
+    /**
+     * Disables the board and the buttons, and shows the progress indicator, while waiting for a board.
+     * The cells are enabled again when the new board is shown.
+     * @param generating {@code true} while waiting for the generator
+     */
+
+    private void showGenerating(boolean generating) {
+        generatingIndicator.setVisible(generating);
+        helpButton.setDisable(generating);
+        btnUndoGame.setDisable(generating);
+        canvasView.setDisable(generating);
+        if (generating) {
+            for (int row = 0; row < SIZE; row++) {
+                for (int col = 0; col < SIZE; col++) {
+                    cellFields[row][col].setDisable(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles the undo (Ctrl+Z) and redo (Ctrl+Y or Ctrl+Shift+Z) keyboard shortcuts.
+     * The moves are taken back or applied again on the board of the session, and the cells are redrawn if
+     * something changed; once the game is over the shortcuts do nothing.
+     * Ctrl+R switches between the text field and the canvas views of the board.
+     * @param event the key event
+     */
+
+    private void handleShortcut(KeyEvent event) {
+        if (session == null) {
+            return;
+        }
+        boolean changed;
+        if (UNDO.match(event)) {
+            changed = session.undo();
+        } else if (REDO.match(event) || REDO_SHIFT.match(event)) {
+            changed = session.redo();
+        } else if (SWITCH_RENDERER.match(event)) {
+            canvasRenderer = !canvasRenderer;
+            applyRenderer();
+            event.consume();
+            return;
+        } else {
+            return;
+        }
+        event.consume();
+        if (changed) {
+            refreshCells();
+        }
+    }
+
+    /**
+     * Shows the view of the board chosen by {@code canvasRenderer} and hides the other one.
+     * The view being shown is brought up to date with the board, since only the visible view follows the moves.
+     */
+
+    private void applyRenderer() {
+        canvasView.setVisible(canvasRenderer);
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                cellFields[row][col].setVisible(!canvasRenderer);
+            }
+        }
+        // before the first board is generated there is nothing to show yet
+        if (sudokuBoard != null) {
+            if (canvasRenderer) {
+                canvasView.setBoard(sudokuBoard);
+                canvasView.requestFocus();
+            } else {
+                showBoard();
+            }
+        }
+        selectedCell = null;
+    }
+
+    /**
+     * Congratulates the player. Called once the session reports that the puzzle has been solved,
+     * whether by a move, a hint or a redo.
+     */
+
+    private void showCompleted() {
+        showAlert("¡Felicitaciones!", "¡Has completado el Sudoku correctamente!");
+    }
+
+    /**
+     * Rewrites the editable cells with the current numbers of the board, after an undo or redo.
+     */
+
+    private void refreshCells() {
+        if (canvasRenderer) {
+            canvasView.refreshAll();
+            return;
+        }
+        textRefreshStart = System.nanoTime();
+        textRefreshCells = 0;
+        refreshingCells = true;
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                if (sudokuBoard.isGiven(row, col)) continue;
+                int number = sudokuBoard.getCell(row, col);
+                cellFields[row][col].setText(number > 0 ? String.valueOf(number) : "");
+                textRefreshCells++;
+            }
+        }
+        refreshingCells = false;
+    }
+
+    /**
+     * Logs at DEBUG how long the text fields took to show the last refresh, from rewriting them to the end of
+     * the layout of the next pulse, to compare with the repaints logged by the canvas view.
+     */
+
+    private void logTextRefresh() {
+        if (textRefreshStart == 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - textRefreshStart;
+        int cells = textRefreshCells;
+        textRefreshStart = 0;
+        LOGGER.log(System.Logger.Level.DEBUG, () -> "Text field refresh of " + cells + " cells took "
+                + nanos / 1_000 + " microseconds");
+    }
+
+    /**
+     * Updates the display of the remaining hints in the interface
+     * This method gets the current number of available hints with {@code sudokuBoard.getAttemptsLeft()} and updates
+     * the label and tooltip with that amount
+     */
+
+    private void updateHintsLeftDisplay() {
+        int hintsLeft = session.getHintsLeft();
+        if (hintsLeftLabel != null) {
+            hintsLeftLabel.setText(String.valueOf(hintsLeft));
+        }
+        helpButton.setTooltip(new Tooltip("Pistas restantes: " + hintsLeft));
+    }
+
+    /**
+     * Handles the reload button action, which prompts the user
+     * to confirm before resetting the game.
+     * If confirmed, the game is reset to its initial state.
+     * Single moves are undone with the keyboard shortcuts instead, see {@link #handleShortcut(KeyEvent)}.
+     */
+
+
+    @FXML
+    private void onHandleBUndo() {
+        // Show confirmation before resetting
+        Alert confirmation = new Alert(Alert.AlertType.CONFIRMATION);
+        confirmation.setTitle("Reiniciar Juego");
+        confirmation.setHeaderText(null);
+        confirmation.setContentText("¿Estás seguro de que quieres reiniciar el juego? Se perderá tu progreso actual.");
+
+        Optional<ButtonType> result = confirmation.showAndWait();
+        if (result.isPresent() && result.get() == ButtonType.OK) {
+            // Reset the game
+            resetGame();
+        }
+    }
+
+    /**
+     * Resets the game to its initial state:
+     * - Starts a new game session, with a new board and full lives
+     * - Displays the new board in the existing cells
+     * - Updates hint and lives displays
+     * - Deselects any selected cell
+     * The new board is usually ready in the background, see {@link #newGame()}.
+     */
+
+    private void resetGame() {
+        newGame();
+    }
+
+    /**
+     * Handles the help button action.
+     * If the player has hints left, it proceeds to show one.
+     * If no hints are left, displays an alert.
+     */
+
+    @FXML
+    private void handleHelp() {
+        // Check if there are attempts left
+        if (session.getHintsLeft() <= 0) {
+            showAlert("Pistas", "¡Se han agotado tus pistas!");
+            return;
+        }
+
+        // Get currently selected cell, if any
+        int selectedRow = -1;
+        int selectedCol = -1;
+        if (canvasRenderer) {
+            selectedRow = canvasView.getSelectedRow();
+            selectedCol = canvasView.getSelectedCol();
+            if (selectedRow >= 0 && sudokuBoard.getCell(selectedRow, selectedCol) > 0) {
+                showError("Error", "La celda ya tiene un número.");
+                return;
+            }
+        } else if (selectedCell != null) {
+            // Find the coordinates of the selected cell
+            for (int row = 0; row < SIZE; row++) {
+                for (int col = 0; col < SIZE; col++) {
+                    if (cellFields[row][col] == selectedCell) {
+                        selectedRow = row;
+                        selectedCol = col;
+                    }
+                }
+            }
+            String currentValue = selectedCell.getText();
+            if (currentValue != null && !currentValue.isEmpty()) {
+                // If the selected cell already has a value, show error
+                showError("Error", "La celda ya tiene un número.");
+                return;
+            }
+        }
+
+        // Use a hint on the selected cell, or on any empty cell if none is selected.
+        // The session decreases the hints left and updates the board.
+        SudokuBoard.Hint hint = session.hint(selectedRow, selectedCol);
+
+        // If a hint is found, show it
+        if (hint != null) {
+            updateHintsLeftDisplay();
+
+            // Apply the hint
+            if (canvasRenderer) {
+                canvasView.refreshCell(hint.row, hint.col);
+            } else {
+                TextField target = cellFields[hint.row][hint.col];
+                target.setText(String.valueOf(hint.value));
+
+                target.setStyle("-fx-background-color: rgba(147, 0, 183, 0.2); -fx-opacity: 1.0; " +
+                        "-fx-text-fill: #9300B7; -fx-font-weight: bold;");
+            }
+
+            // Show attempts left
+            int attemptsLeft = session.getHintsLeft();
+            String reason = hint.explanation == null ? "" : hint.technique.getDisplayName() + ": " + hint.explanation + "\n\n";
+            showAlert("Pista aplicada", reason + "Pista aplicada correctamente. Te quedan " +
+                    attemptsLeft + " " + (attemptsLeft == 1 ? "pista" : "pistas") + ".");
+        } else {
+            showAlert("Mensaje", "Tablero completo, no hay celdas vacías para proporcionar pistas.");
+        }
+    }
+
+    /**
+     * Creates the {@link TextField} of every cell of the board and adds it to the gridPane.
+     * The cells are created once, when the view is shown, and reused by every new game; their size and font
+     * follow the size of the gridPane, through listeners that are also registered only once.
+     * The canvas view is created here too, spanning the whole gridPane, and the chosen view is shown.
+     */
+    private void createCells() {
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                TextField textField = new TextField();
+
+                // Center the content perfectly
+                textField.setAlignment(Pos.CENTER);
+
+                // Allow to the cell to be selectable
+                textField.setFocusTraversable(true);
+
+                // Add the texfield to the gridPane with uniform margins
+                sudokuPanel.add(textField, col, row);
+                cellFields[row][col] = textField;
+                configureTextField(textField, row, col);
+            }
+        }
+        updateCellSizes();
+
+        // Ensure cells resize and stay centered when the gridPane is resized
+        sudokuPanel.widthProperty().addListener((obs, oldVal, newVal) -> {
+            updateCellSizes();
+        });
+
+        sudokuPanel.heightProperty().addListener((obs, oldVal, newVal) -> {
+            updateCellSizes();
+        });
+
+        canvasView = new CanvasBoardView(CELL_FONTS);
+        canvasView.setInputHandler(new CanvasInput());
+        sudokuPanel.add(canvasView, 0, 0, SIZE, SIZE);
+        applyRenderer();
+
+        generatingIndicator.setVisible(false);
+        generatingIndicator.setMouseTransparent(true);
+        sudokuPanel.add(generatingIndicator, 0, 0, SIZE, SIZE);
+        GridPane.setHalignment(generatingIndicator, HPos.CENTER);
+        GridPane.setValignment(generatingIndicator, VPos.CENTER);
+    }
+
+    /**
+     * Plays on the session the moves entered on the canvas view, with the same rules as the text fields.
+     */
+
+    private final class CanvasInput implements CanvasBoardView.InputHandler {
+        @Override
+        public void onDigit(int row, int col, int digit) {
+            GameSession.PlaceResult result = session.place(row, col, digit);
+            if (result == GameSession.PlaceResult.PLACED) {
+                canvasView.refreshCell(row, col);
+            } else if (result == GameSession.PlaceResult.CONFLICT) {
+                canvasView.showConflict(row, col, digit);
+                showError("Número repetido", identifySudokuError(row, col, digit));
+                updateLivesDisplay();
+            }
+        }
+
+        @Override
+        public void onErase(int row, int col) {
+            if (session.erase(row, col)) {
+                canvasView.refreshCell(row, col);
+            }
+        }
+
+        @Override
+        public void onToggleCandidate(int row, int col, int digit) {
+            session.toggleCandidate(row, col, digit);
+            canvasView.refreshCell(row, col);
+        }
+    }
+
+    /**
+     * Displays the Sudoku board in the graphical user interface.
+     * Every cell that contains a number greater than zero shows the number and is disabled to prevent
+     * editing. The other cells are left blank and enabled for user input.
+     */
+    private void showBoard() {
+        refreshingCells = true;
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                TextField textField = cellFields[row][col];
+                int number = sudokuBoard.getCell(row, col);
+                if (number > 0) {
+                    textField.setText(String.valueOf(number));
+                    textField.setDisable(true);
+                    textField.setStyle(BASE_STYLE + " -fx-opacity: 1.0;");
+                } else {
+                    textField.setText("");
+                    textField.setDisable(false);
+                    textField.setStyle(BASE_STYLE);
+                }
+                textField.setFont(cellFont);
+            }
+        }
+        refreshingCells = false;
+    }
+
+    /**
+     * Configures the events of a {@link TextField} in the Sudoku board to handle cell selection and user input
+     * On click, selects the cell and applies a visual style. When entering text, validates that the value is between
+     * 1 and 6, updates the board if valid, and applies and appropriate visual style
+     * it also displays error messages if the value is invalid and checks if the game has ended correctly.
+     * @param textField the cell to be configured
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     */
+
+    private void configureTextField(TextField textField, int row, int col) {
+        // Configure click event to select the cell
+        textField.setOnMouseClicked(event -> {
+            if (selectedCell != null) {
+                restoreDefaultStyle(selectedCell);
+            }
+            selectedCell = textField;
+            String currentStyle = textField.getStyle();
+            textField.setStyle(currentStyle + "-fx-background-color: rgba(147, 0, 183, 0.15);");
+        });
+
+        // Configure text input event to validate and update the board
+        textField.textProperty().addListener((observable, oldValue, newValue) -> {
+            if (refreshingCells) {
+                return;
+            }
+            if (newValue.isEmpty()) {
+                session.erase(row, col);
+                return;
+            }
+
+            // Validate that only digits 1 to 6 are allowed
+            if (!newValue.matches("[1-6]")) {
+                textField.setText(oldValue);
+                return;
+            }
+
+            int number = Integer.parseInt(newValue);
+            GameSession.PlaceResult result = session.place(row, col, number);
+            if (result == GameSession.PlaceResult.REJECTED) {
+                return;
+            }
+
+            // Updated based on validation
+            if (result == GameSession.PlaceResult.PLACED) {
+                textField.setFont(cellFont); // Usar la fuente con tamaño calculado
+                textField.setStyle(BASE_STYLE + "-fx-font-weight: bold;");
+                restoreDefaultStyle(selectedCell);
+            } else {
+                textField.setFont(cellFont); // Usar la fuente con tamaño calculado
+                textField.setStyle(BASE_STYLE + "-fx-background-color: rgba(255,0,0,0.3); -fx-text-fill: red; -fx-font-weight: bold;");
+                String errorMessage = identifySudokuError(row, col, number);
+                showError("Número repetido", errorMessage);
+                textField.setText(oldValue);
+                updateLivesDisplay();
+                restoreDefaultStyle(selectedCell);
+            }
+        });
+    }
+
+    /**
+     * Checks whether a candidate number can be placed in a specific cell of the board.
+     * A number is considered valid if it is not already present in the same row, the same column,
+     * or within the 2x3 block that contains the cell.
+     *
+     * @param row       the row index of the cell
+     * @param col       the column index of the cell
+     * @param candidate the number to be placed in the cell
+     * @return {@code true} if the number is valid in that position; {@code false} if it is already present
+     * in the same row, column, or block.
+     */
+
+    public boolean isValid(int row, int col, int candidate) {
+        // Check the other cells of the row, column and block, each visited once
+        int cell = row * SIZE + col;
+        for (int i = 0; i < PEERS; i++) {
+            int peer = GEOMETRY.peer(cell, i);
+            if (sudokuBoard.getCell(peer) == candidate) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Dynamically adjusts the size of all cells on the board when the gridPane changes size.
+     * The font of each size is taken from the cache, so resizing reads no files.
+     */
+    private void updateCellSizes() {
+        double cellWidth = sudokuPanel.getWidth() / SIZE;
+        double cellHeight = sudokuPanel.getHeight() / SIZE;
+        // set font size proportionally to cell size (50% of the smallest side)
+        cellFont = CELL_FONTS.get(Math.min(cellWidth, cellHeight) * 0.5);
+
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                TextField textField = cellFields[row][col];
+                textField.setPrefSize(cellWidth, cellHeight);
+                textField.setMinSize(cellWidth, cellHeight);
+                textField.setMaxSize(cellWidth, cellHeight);
+                textField.setFont(cellFont); // Actualizar la fuente con el nuevo tamaño
+            }
+        }
+    }
+
+    /**
+     * Restores the default style of a cell, keeping the block styles
+     * @param cell the cell to which the style is restored
+     */
+    private void restoreDefaultStyle(TextField cell) {
+        // Restaurar estilo predeterminado para celdas editables
+        cell.setStyle(BASE_STYLE);
+    }
+
+    /**
+     * Identifies the reason why a number input in a sudoku cell is invalid
+     * @param row cell row
+     * @param col cell column
+     * @param number Number to validate
+     * @return A message indicating the conflict encountered or that the number is invalid
+     */
+
+    private String identifySudokuError(int row, int col, int number) {
+        // The peers of the row come first, then those of the column, then the rest of the block
+        int cell = row * SIZE + col;
+        for (int i = 0; i < PEERS; i++) {
+            int peer = GEOMETRY.peer(cell, i);
+            if (sudokuBoard.getCell(peer) == number) {
+                if (GEOMETRY.row(peer) == row) {
+                    return "El número " + number + " ya existe en la misma fila" + (row + 1);
+                }
+                if (GEOMETRY.col(peer) == col) {
+                    return "El número " + number + " ya existe en la misma columna";
+                }
+                return "El número " + number + " ya existe en el mismo bloque";
+            }
+        }
+
+        return "El número no es válido";
+    }
+
+    /**
+     * Displays an error dialog box with a specified title and message
+     * @param title Title of the error window
+     * @param message Error message to be displayed to the user
+     */
+
+    private void showError(String title, String message) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.show();
+    }
+
+    /**
+     * Displays an informational alert with the specified title and message.
+     *
+     * @param title   the title of the alert dialog
+     * @param message the message to display
+     */
+
+    private void showAlert(String title, String message) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+
+    /**
+     * Updates the display of lives remaining in the interface
+     * This method updates the image displayed based on the number of lives left
+     * and closes the game window if lives reach 0
+     */
+
+    private void updateLivesDisplay() {
+        String imagePath;
+        switch (session.getLives()) {
+            case 3:
+                imagePath = "/lives3.png";
+                break;
+            case 2:
+                imagePath = "/lives2.png";
+                break;
+            case 1:
+                imagePath = "/lives1.png";
+                break;
+            default:
+                imagePath = "/lives0.png";
+                break;
+        }
+
+        try {
+            Image livesImage = new Image(getClass().getResourceAsStream(imagePath));
+            livesImageView.setImage(livesImage);
+
+            // Cerrar el juego cuando las vidas llegan a 0
+            if (session.isLost()) {
+                closeGameWindow();
+            }
+        } catch (Exception e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Could not load the lives image " + imagePath, e);
+        }
+    }
+
+    /**
+     * Closes the game window and displays a message indicating that the game is over
+     * This method is called when the player loses all their lives
+     */
+
+    private void closeGameWindow() {
+
+        Stage stage = (Stage) sudokuPanel.getScene().getWindow();
+        stage.close();
+
+        Platform.runLater(() -> {
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle("Game Over");
+            alert.setHeaderText("¡Se acabó el juego!");
+            alert.setContentText("Has perdido todas tus vidas. ¡Inténtalo de nuevo!");
+            alert.showAndWait();
+        });
+    }
+}
\ No newline at end of file
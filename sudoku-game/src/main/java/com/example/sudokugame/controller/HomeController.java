@@ -18,13 +18,16 @@ import java.io.IOException;
 
 public class HomeController {
 
+    private static final System.Logger LOGGER = System.getLogger(HomeController.class.getName());
+
     /**
      * Initialization method automatically called by JavaFX after FXML elements are loaded.
      */
 
     @FXML
     public void initialize() {
-        System.out.println("hola");
+        // Boards are generated in the background while the home screen is shown
+        GameController.prefetchPuzzles();
     }
     @FXML
     private Button buttonPLay;
@@ -38,7 +41,7 @@ public class HomeController {
 
     @FXML
     void handlePlay(ActionEvent event) throws IOException {
-        System.out.println("Play");
+        LOGGER.log(System.Logger.Level.DEBUG, "Starting a game");
 
         GameStage gameStage = new GameStage();
         HomeStage.deleteInstance();
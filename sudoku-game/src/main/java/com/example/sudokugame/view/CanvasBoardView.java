@@ -0,0 +1,426 @@
+package com.example.sudokugame.view;
+
+import com.example.sudokugame.model.Geometry;
+import com.example.sudokugame.model.SudokuBoard;
+import com.example.sudokugame.model.SudokuGrid;
+import javafx.application.Platform;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Draws the sudoku board on a single {@link Canvas}, as a lighter alternative to a grid of text fields.
+ * The view paints the grid, the initial numbers, the numbers of the player, the selected cell with its row,
+ * column and block, a cell in conflict, and optionally the pencil marks of the empty cells.
+ * <p>
+ * Only the cells that changed are painted again: changes mark cells as dirty, and a single repaint per
+ * pulse redraws just those cells. Resizing repaints the whole board. Mouse clicks are mapped to a cell
+ * by hit-testing on the canvas coordinates, and the keyboard moves the selection and enters numbers;
+ * what a number does to the game is decided by the {@link InputHandler}.
+ * The time spent in the last repaint is available from {@link #getLastRepaintNanos()} and is logged at DEBUG.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class CanvasBoardView extends Region {
+
+    /**
+     * Receives the moves entered on the board.
+     */
+    public interface InputHandler {
+        /**
+         * Called when the player types a number in a cell that is not one of the initial numbers.
+         * @param row the row index of the cell
+         * @param col the column index of the cell
+         * @param digit the number typed
+         */
+        void onDigit(int row, int col, int digit);
+
+        /**
+         * Called when the player empties a cell that is not one of the initial numbers.
+         * @param row the row index of the cell
+         * @param col the column index of the cell
+         */
+        void onErase(int row, int col);
+
+        /**
+         * Called when the player toggles a pencil mark of an empty cell, with Shift and a number.
+         * @param row the row index of the cell
+         * @param col the column index of the cell
+         * @param digit the pencil mark
+         */
+        void onToggleCandidate(int row, int col, int digit);
+    }
+
+    private static final System.Logger LOGGER = System.getLogger(CanvasBoardView.class.getName());
+    private static final int SIZE = SudokuGrid.SIZE;
+    private static final Geometry GEOMETRY = SudokuGrid.GEOMETRY;
+    private static final String[] DIGITS = {"", "1", "2", "3", "4", "5", "6", "7", "8", "9"};
+
+    private static final Color BACKGROUND = Color.WHITE;
+    private static final Color SELECTED = Color.rgb(147, 0, 183, 0.25);
+    private static final Color RELATED = Color.rgb(147, 0, 183, 0.08);
+    private static final Color CONFLICT = Color.rgb(255, 0, 0, 0.3);
+    private static final Color GIVEN_TEXT = Color.rgb(60, 0, 75);
+    private static final Color PLAYER_TEXT = Color.web("#9300B7");
+    private static final Color CONFLICT_TEXT = Color.RED;
+    private static final Color MARK_TEXT = Color.rgb(147, 0, 183, 0.6);
+    private static final Color LINE = Color.rgb(147, 0, 183, 0.35);
+    private static final Color BLOCK_LINE = Color.web("#9300B7");
+
+    private final Canvas canvas = new Canvas();
+    private final FontCache fonts;
+    private final boolean[] dirty = new boolean[SudokuGrid.CELLS];
+    private boolean dirtyAll = true;
+    private boolean repaintPending;
+    private SudokuBoard board;
+    private InputHandler inputHandler;
+    private int selected = -1;
+    private int conflict = -1;
+    private int conflictDigit;
+    private boolean showCandidates;
+    private long lastRepaintNanos;
+    private int lastRepaintCells;
+
+    /**
+     * Creates an empty view.
+     * @param fonts the font used for the numbers, in every size
+     */
+    public CanvasBoardView(FontCache fonts) {
+        this.fonts = fonts;
+        getChildren().add(canvas);
+        setFocusTraversable(true);
+        addEventHandler(MouseEvent.MOUSE_PRESSED, this::handleMouse);
+        addEventHandler(KeyEvent.KEY_PRESSED, this::handleKey);
+    }
+
+    /**
+     * Shows a board and repaints the whole view.
+     * @param board the board to draw
+     */
+    public void setBoard(SudokuBoard board) {
+        this.board = board;
+        conflict = -1;
+        refreshAll();
+    }
+
+    /**
+     * Sets the receiver of the moves entered on the board.
+     * @param inputHandler the handler, or {@code null} to ignore input
+     */
+    public void setInputHandler(InputHandler inputHandler) {
+        this.inputHandler = inputHandler;
+    }
+
+    /**
+     * Schedules a repaint of a cell whose number or pencil marks changed. Since a number changes the
+     * pencil marks of the whole row, column and block, those are repainted too while marks are shown.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     */
+    public void refreshCell(int row, int col) {
+        int cell = row * SIZE + col;
+        markDirty(cell);
+        if (showCandidates) {
+            markPeersDirty(cell);
+        }
+    }
+
+    /**
+     * Schedules a repaint of the whole board, for example after an undo or a new game.
+     */
+    public void refreshAll() {
+        dirtyAll = true;
+        scheduleRepaint();
+    }
+
+    /**
+     * Shows in red a number that breaks the rules, and was therefore not stored on the board,
+     * until the selection changes or another number is entered.
+     * @param row the row index of the cell
+     * @param col the column index of the cell
+     * @param digit the rejected number
+     */
+    public void showConflict(int row, int col, int digit) {
+        clearConflict();
+        conflict = row * SIZE + col;
+        conflictDigit = digit;
+        markDirty(conflict);
+    }
+
+    /**
+     * Shows or hides the pencil marks of the empty cells.
+     * @param showCandidates {@code true} to draw the pencil marks
+     */
+    public void setShowCandidates(boolean showCandidates) {
+        this.showCandidates = showCandidates;
+        refreshAll();
+    }
+
+    /**
+     * Checks if the pencil marks of the empty cells are drawn.
+     * @return {@code true} if the pencil marks are shown
+     */
+    public boolean isShowCandidates() {
+        return showCandidates;
+    }
+
+    /**
+     * Returns the row of the selected cell.
+     * @return the row index, or -1 if no cell is selected
+     */
+    public int getSelectedRow() {
+        return selected < 0 ? -1 : selected / SIZE;
+    }
+
+    /**
+     * Returns the column of the selected cell.
+     * @return the column index, or -1 if no cell is selected
+     */
+    public int getSelectedCol() {
+        return selected < 0 ? -1 : selected % SIZE;
+    }
+
+    /**
+     * Returns the time taken by the last repaint, to compare this view with the text field view.
+     * @return the duration in nanoseconds
+     */
+    public long getLastRepaintNanos() {
+        return lastRepaintNanos;
+    }
+
+    /**
+     * Returns how many cells the last repaint drew.
+     * @return the number of cells, {@value SudokuGrid#CELLS} for a full repaint
+     */
+    public int getLastRepaintCells() {
+        return lastRepaintCells;
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double width = snapSizeX(getWidth());
+        double height = snapSizeY(getHeight());
+        if (canvas.getWidth() != width || canvas.getHeight() != height) {
+            canvas.setWidth(width);
+            canvas.setHeight(height);
+            dirtyAll = true;
+        }
+        if (dirtyAll) {
+            // paint right away so the resized canvas never shows an empty frame
+            repaint();
+        }
+    }
+
+    /**
+     * Selects the cell under the mouse.
+     */
+    private void handleMouse(MouseEvent event) {
+        requestFocus();
+        int col = (int) (event.getX() / (getWidth() / SIZE));
+        int row = (int) (event.getY() / (getHeight() / SIZE));
+        if (row >= 0 && row < SIZE && col >= 0 && col < SIZE) {
+            select(row * SIZE + col);
+        }
+        event.consume();
+    }
+
+    /**
+     * Moves the selection with the arrow keys and enters numbers in the selected cell.
+     * Shift and a number toggles a pencil mark; N shows or hides the pencil marks.
+     */
+    private void handleKey(KeyEvent event) {
+        if (event.isShortcutDown()) {
+            return;
+        }
+        KeyCode code = event.getCode();
+        if (code == KeyCode.N) {
+            setShowCandidates(!showCandidates);
+            event.consume();
+            return;
+        }
+        if (code.isArrowKey()) {
+            int row = selected < 0 ? 0 : selected / SIZE;
+            int col = selected < 0 ? 0 : selected % SIZE;
+            if (selected >= 0) {
+                switch (code) {
+                    case UP: row = (row + SIZE - 1) % SIZE; break;
+                    case DOWN: row = (row + 1) % SIZE; break;
+                    case LEFT: col = (col + SIZE - 1) % SIZE; break;
+                    default: col = (col + 1) % SIZE; break;
+                }
+            }
+            select(row * SIZE + col);
+            event.consume();
+            return;
+        }
+        if (selected < 0 || board == null || inputHandler == null
+                || board.isGiven(selected / SIZE, selected % SIZE)) {
+            return;
+        }
+        int row = selected / SIZE;
+        int col = selected % SIZE;
+        if (code == KeyCode.BACK_SPACE || code == KeyCode.DELETE || code == KeyCode.DIGIT0
+                || code == KeyCode.NUMPAD0) {
+            clearConflict();
+            inputHandler.onErase(row, col);
+            event.consume();
+            return;
+        }
+        int digit = digitOf(code);
+        if (digit >= 1 && digit <= SIZE) {
+            clearConflict();
+            if (event.isShiftDown()) {
+                inputHandler.onToggleCandidate(row, col, digit);
+            } else {
+                inputHandler.onDigit(row, col, digit);
+            }
+            event.consume();
+        }
+    }
+
+    private static int digitOf(KeyCode code) {
+        if (code.isDigitKey()) {
+            String name = code.getName();
+            return name.charAt(name.length() - 1) - '0';
+        }
+        return -1;
+    }
+
+    private void select(int cell) {
+        if (cell == selected) {
+            return;
+        }
+        clearConflict();
+        if (selected >= 0) {
+            markDirty(selected);
+            markPeersDirty(selected);
+        }
+        selected = cell;
+        markDirty(cell);
+        markPeersDirty(cell);
+    }
+
+    private void clearConflict() {
+        if (conflict >= 0) {
+            markDirty(conflict);
+            conflict = -1;
+        }
+    }
+
+    private void markDirty(int cell) {
+        dirty[cell] = true;
+        scheduleRepaint();
+    }
+
+    private void markPeersDirty(int cell) {
+        for (int i = 0, peers = GEOMETRY.getPeerCount(); i < peers; i++) {
+            dirty[GEOMETRY.peer(cell, i)] = true;
+        }
+        scheduleRepaint();
+    }
+
+    /**
+     * Coalesces every change made during a pulse into a single repaint.
+     */
+    private void scheduleRepaint() {
+        if (!repaintPending) {
+            repaintPending = true;
+            Platform.runLater(this::repaint);
+        }
+    }
+
+    private void repaint() {
+        repaintPending = false;
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        if (board == null || width <= 0 || height <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double cellWidth = width / SIZE;
+        double cellHeight = height / SIZE;
+        int painted = 0;
+        for (int cell = 0; cell < SudokuGrid.CELLS; cell++) {
+            if (dirtyAll || dirty[cell]) {
+                paintCell(gc, cell, cellWidth, cellHeight);
+                dirty[cell] = false;
+                painted++;
+            }
+        }
+        dirtyAll = false;
+        lastRepaintCells = painted;
+        lastRepaintNanos = System.nanoTime() - start;
+        LOGGER.log(System.Logger.Level.DEBUG, () -> "Canvas repaint of " + getLastRepaintCells() + " cells took "
+                + getLastRepaintNanos() / 1_000 + " microseconds");
+    }
+
+    /**
+     * Paints the background, the number or pencil marks, and the borders of a single cell.
+     */
+    private void paintCell(GraphicsContext gc, int cell, double cellWidth, double cellHeight) {
+        int row = GEOMETRY.row(cell);
+        int col = GEOMETRY.col(cell);
+        double x = col * cellWidth;
+        double y = row * cellHeight;
+
+        gc.setFill(BACKGROUND);
+        gc.fillRect(x, y, cellWidth, cellHeight);
+        Color highlight = cell == conflict ? CONFLICT
+                : cell == selected ? SELECTED
+                : selected >= 0 && isRelated(cell, selected) ? RELATED : null;
+        if (highlight != null) {
+            gc.setFill(highlight);
+            gc.fillRect(x, y, cellWidth, cellHeight);
+        }
+
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        int number = cell == conflict ? conflictDigit : board.getCell(row, col);
+        if (number > 0) {
+            gc.setFont(fonts.get(Math.min(cellWidth, cellHeight) * 0.5));
+            gc.setFill(cell == conflict ? CONFLICT_TEXT : board.isGiven(row, col) ? GIVEN_TEXT : PLAYER_TEXT);
+            gc.fillText(DIGITS[number], x + cellWidth / 2, y + cellHeight / 2);
+        } else if (showCandidates) {
+            // the marks are laid out like the cells of a block
+            int marks = board.getCandidates(row, col);
+            int markRows = SudokuGrid.BLOCK_ROWS;
+            int markCols = SudokuGrid.BLOCK_COLS;
+            double markWidth = cellWidth / markCols;
+            double markHeight = cellHeight / markRows;
+            gc.setFont(fonts.get(Math.min(markWidth, markHeight) * 0.6));
+            gc.setFill(MARK_TEXT);
+            for (int digit = 1; digit <= SIZE; digit++) {
+                if ((marks & (1 << digit)) != 0) {
+                    int position = digit - 1;
+                    gc.fillText(DIGITS[digit], x + (position % markCols + 0.5) * markWidth,
+                            y + (position / markCols + 0.5) * markHeight);
+                }
+            }
+        }
+
+        // thin lines inside the blocks, thick lines along the block borders
+        strokeEdge(gc, x, y, x + cellWidth, y, row % SudokuGrid.BLOCK_ROWS == 0);
+        strokeEdge(gc, x, y + cellHeight, x + cellWidth, y + cellHeight, (row + 1) % SudokuGrid.BLOCK_ROWS == 0);
+        strokeEdge(gc, x, y, x, y + cellHeight, col % SudokuGrid.BLOCK_COLS == 0);
+        strokeEdge(gc, x + cellWidth, y, x + cellWidth, y + cellHeight, (col + 1) % SudokuGrid.BLOCK_COLS == 0);
+    }
+
+    private static void strokeEdge(GraphicsContext gc, double x1, double y1, double x2, double y2, boolean block) {
+        gc.setStroke(block ? BLOCK_LINE : LINE);
+        gc.setLineWidth(block ? 2 : 1);
+        gc.strokeLine(x1, y1, x2, y2);
+    }
+
+    private static boolean isRelated(int cell, int other) {
+        return GEOMETRY.row(cell) == GEOMETRY.row(other) || GEOMETRY.col(cell) == GEOMETRY.col(other)
+                || GEOMETRY.block(cell) == GEOMETRY.block(other);
+    }
+}
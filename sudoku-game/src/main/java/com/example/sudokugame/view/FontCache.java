@@ -0,0 +1,77 @@
+package com.example.sudokugame.view;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Derives sizes of a font bundled with the game, reading its file only once.
+ * The font file is read into memory the first time a size is requested, and every size derived from it is
+ * kept, rounded to half a point. Asking again for a size that was already used, as happens on every
+ * resize of the board, does no I/O and allocates nothing.
+ * If the font file cannot be found, the bold system font is used instead.
+ * Like the rest of the view, a cache must only be used on the JavaFX application thread.
+ * @author Isabela bermúdez and Julieta Arteta
+ * @version 1.0
+ */
+
+public final class FontCache {
+
+    // sizes are kept in half points, up to 256 points
+    private static final int STEPS_PER_POINT = 2;
+    private static final int MAX_STEPS = 512;
+
+    private final String[] resources;
+    private final Font[] fonts = new Font[MAX_STEPS + 1];
+    private byte[] data;
+    private boolean loaded;
+
+    /**
+     * Creates a cache for a font file of the application resources.
+     * @param resources the paths of the font file to try, in order, for example with different folder casing
+     */
+    public FontCache(String... resources) {
+        this.resources = resources.clone();
+    }
+
+    /**
+     * Returns the font at the given size.
+     * @param size the size in points
+     * @return the cached font of the closest half-point size
+     */
+    public Font get(double size) {
+        int steps = (int) Math.max(1, Math.min(MAX_STEPS, Math.round(size * STEPS_PER_POINT)));
+        Font font = fonts[steps];
+        if (font == null) {
+            font = derive((double) steps / STEPS_PER_POINT);
+            fonts[steps] = font;
+        }
+        return font;
+    }
+
+    private Font derive(double size) {
+        if (!loaded) {
+            data = read();
+            loaded = true;
+        }
+        Font font = data == null ? null : Font.loadFont(new ByteArrayInputStream(data), size);
+        return font != null ? font : Font.font(Font.getDefault().getFamily(), FontWeight.BOLD, size);
+    }
+
+    private byte[] read() {
+        for (String resource : resources) {
+            try (InputStream in = FontCache.class.getResourceAsStream(resource)) {
+                if (in != null) {
+                    return in.readAllBytes();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read the font " + resource, e);
+            }
+        }
+        return null;
+    }
+}
@@ -2,6 +2,7 @@ module com.example.sudokugame {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.desktop;
+    requires com.example.sudokugame.core;
 
 
     opens com.example.sudokugame to javafx.fxml;